@@ -0,0 +1,250 @@
+package com.learnwiremock.catalog;
+
+import com.learnwiremock.dto.Movie;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only view of a movie catalog snapshot file, memory-mapped so that opening it costs no parsing.
+ * <p>
+ * Layout: a fixed header (magic, format version, movie count, string count, payload length and the CRC32 of the
+ * payload) followed by the payload, which holds one column per field - ids, years, release dates as epoch days,
+ * name and cast references - then the offsets and UTF-8 bytes of the deduplicated string table.
+ * Movies are decoded on demand from their row.
+ */
+public class CatalogSnapshot {
+    static final int MAGIC = 0x4D564353;
+
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+
+    private static final long NO_ID = Long.MIN_VALUE;
+
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int NO_STRING = -1;
+
+    private final ByteBuffer buffer;
+
+    private final int size;
+
+    private final int stringCount;
+
+    private CatalogSnapshot(ByteBuffer buffer, int size, int stringCount) {
+        this.buffer = buffer;
+        this.size = size;
+        this.stringCount = stringCount;
+    }
+
+    /**
+     * Maps the snapshot and validates its header and checksum.
+     *
+     * @param path - snapshot file written by {@link #write(Path, Collection)}
+     * @return - the mapped snapshot
+     * @throws IOException if the file is not a snapshot, was written by another format version, or its header or payload
+     *                     is corrupt
+     */
+    public static CatalogSnapshot open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("File " + path + " is not a movie catalog snapshot");
+        }
+
+        short version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Snapshot " + path + " has format version " + version + ", expected " + VERSION);
+        }
+
+        int size = buffer.getInt(8);
+        int stringCount = buffer.getInt(12);
+        long checksum = buffer.getLong(16);
+        long payloadLength = buffer.getLong(24);
+
+        if (payloadLength != buffer.capacity() - HEADER_SIZE) {
+            throw new IOException("Snapshot " + path + " is truncated");
+        }
+
+        if (checksum != checksum(payload(buffer))) {
+            throw new IOException("Snapshot " + path + " failed checksum validation");
+        }
+
+        // the checksum covers the payload only, so the counts that locate the columns are checked against it
+        long stringTable = (long) size * (Long.BYTES + 4 * Integer.BYTES) + ((long) stringCount + 1) * Integer.BYTES;
+        if (size < 0 || stringCount < 0 || stringTable > payloadLength
+                || buffer.getInt(HEADER_SIZE + (int) stringTable - Integer.BYTES) != payloadLength - stringTable) {
+            throw new IOException("Snapshot " + path + " has a corrupt header");
+        }
+
+        return new CatalogSnapshot(buffer, size, stringCount);
+    }
+
+    /**
+     * Writes the movies to a new snapshot, replacing {@code path} atomically once the file is complete.
+     */
+    public static void write(Path path, Collection<Movie> movies) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        int stringBytes = 0;
+        for (Movie movie : movies) {
+            stringBytes += intern(strings, movie.getName());
+            stringBytes += intern(strings, movie.getCast());
+        }
+
+        int size = movies.size();
+        long payloadLength = (long) size * (Long.BYTES + 4 * Integer.BYTES)
+                + (long) (strings.size() + 1) * Integer.BYTES
+                + stringBytes;
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + payloadLength);
+
+            buffer.position(HEADER_SIZE);
+            for (Movie movie : movies) {
+                buffer.putLong(movie.getMovie_id() == null ? NO_ID : movie.getMovie_id());
+            }
+            for (Movie movie : movies) {
+                buffer.putInt(movie.getYear() == null ? NO_VALUE : movie.getYear());
+            }
+            for (Movie movie : movies) {
+                buffer.putInt(movie.getRelease_date() == null ? NO_VALUE : Math.toIntExact(movie.getRelease_date().toEpochDay()));
+            }
+            for (Movie movie : movies) {
+                buffer.putInt(reference(strings, movie.getName()));
+            }
+            for (Movie movie : movies) {
+                buffer.putInt(reference(strings, movie.getCast()));
+            }
+
+            int offset = 0;
+            for (String value : strings.keySet()) {
+                buffer.putInt(offset);
+                offset += value.getBytes(StandardCharsets.UTF_8).length;
+            }
+            buffer.putInt(offset);
+            for (String value : strings.keySet()) {
+                buffer.put(value.getBytes(StandardCharsets.UTF_8));
+            }
+
+            buffer.putInt(0, MAGIC);
+            buffer.putShort(4, VERSION);
+            buffer.putShort(6, (short) 0);
+            buffer.putInt(8, size);
+            buffer.putInt(12, strings.size());
+            buffer.putLong(16, checksum(payload(buffer)));
+            buffer.putLong(24, payloadLength);
+            buffer.force();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Movie movie(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for snapshot of size " + size);
+        }
+
+        long movieId = buffer.getLong(HEADER_SIZE + row * Long.BYTES);
+        int year = buffer.getInt(intColumn(0) + row * Integer.BYTES);
+        int releaseDate = buffer.getInt(intColumn(1) + row * Integer.BYTES);
+
+        return Movie.builder()
+                .movie_id(movieId == NO_ID ? null : movieId)
+                .year(year == NO_VALUE ? null : year)
+                .release_date(releaseDate == NO_VALUE ? null : LocalDate.ofEpochDay(releaseDate))
+                .name(string(buffer.getInt(intColumn(2) + row * Integer.BYTES)))
+                .cast(string(buffer.getInt(intColumn(3) + row * Integer.BYTES)))
+                .build();
+    }
+
+    public List<Movie> movies() {
+        List<Movie> movies = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            movies.add(movie(row));
+        }
+
+        return movies;
+    }
+
+    private int intColumn(int column) {
+        return HEADER_SIZE + size * Long.BYTES + column * size * Integer.BYTES;
+    }
+
+    private String string(int reference) {
+        if (reference == NO_STRING) {
+            return null;
+        }
+
+        int offsets = intColumn(4);
+        int bytes = offsets + (stringCount + 1) * Integer.BYTES;
+        int start = buffer.getInt(offsets + reference * Integer.BYTES);
+        int end = buffer.getInt(offsets + (reference + 1) * Integer.BYTES);
+
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(bytes + start);
+        slice.limit(bytes + end);
+
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        if (value == null || strings.containsKey(value)) {
+            return 0;
+        }
+
+        strings.put(value, strings.size());
+
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static int reference(Map<String, Integer> strings, String value) {
+        return value == null ? NO_STRING : strings.get(value);
+    }
+
+    private static ByteBuffer payload(ByteBuffer buffer) {
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(HEADER_SIZE);
+        payload.limit(buffer.capacity());
+
+        return payload;
+    }
+
+    private static long checksum(ByteBuffer payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+
+        return crc32.getValue();
+    }
+}
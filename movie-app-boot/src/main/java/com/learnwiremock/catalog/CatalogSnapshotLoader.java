@@ -0,0 +1,96 @@
+package com.learnwiremock.catalog;
+
+import com.learnwiremock.dto.Movie;
+import com.learnwiremock.service.MoviesRestClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the movie catalog from the local snapshot as soon as the application starts, then reconciles the snapshot
+ * with the movies service in the background and rewrites it when upstream has changed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("movieapp.snapshot.path")
+public class CatalogSnapshotLoader {
+
+    private final MoviesRestClient moviesRestClient;
+
+    private final Path snapshotPath;
+
+    private final ExecutorService reconciler = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogSnapshotLoader(MoviesRestClient moviesRestClient, @Value("${movieapp.snapshot.path}") String snapshotPath) {
+        this.moviesRestClient = moviesRestClient;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (Files.exists(snapshotPath)) {
+            try {
+                snapshot = CatalogSnapshot.open(snapshotPath);
+                log.info("Mapped catalog snapshot {} with {} movies", snapshotPath, snapshot.size());
+            } catch (IOException ex) {
+                log.warn("Ignoring unusable catalog snapshot {} : {}", snapshotPath, ex.getMessage());
+            }
+        }
+
+        reconciler.execute(this::reconcile);
+    }
+
+    @PreDestroy
+    public void shutDown() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * @return - the movies of the current snapshot, empty until a snapshot is available
+     */
+    public List<Movie> movies() {
+        CatalogSnapshot current = snapshot;
+
+        return current == null ? Collections.emptyList() : current.movies();
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    void reconcile() {
+        try {
+            List<Movie> upstream = moviesRestClient.retrieveAllMovies();
+            CatalogSnapshot current = snapshot;
+
+            if (current != null && current.movies().equals(upstream)) {
+                log.info("Catalog snapshot {} is up to date", snapshotPath);
+                return;
+            }
+
+            CatalogSnapshot.write(snapshotPath, upstream);
+            snapshot = CatalogSnapshot.open(snapshotPath);
+            log.info("Catalog snapshot {} refreshed with {} movies", snapshotPath, upstream.size());
+        } catch (Exception ex) {
+            log.error("Exception while reconciling catalog snapshot {} and the message is {} ", snapshotPath, ex.getMessage());
+        }
+    }
+}
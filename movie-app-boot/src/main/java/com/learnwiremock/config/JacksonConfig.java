@@ -0,0 +1,33 @@
+package com.learnwiremock.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.learnwiremock.dto.Movie;
+import com.learnwiremock.dto.MovieDeserializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Boot registers every {@link Module} bean with the application {@code ObjectMapper}, which the {@code WebClient}
+ * codecs share.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module movieModule() {
+        return new SimpleModule("movies")
+                .addDeserializer(Movie.class, new MovieDeserializer());
+    }
+
+    /**
+     * Blackbird needs Java 11, so this Java 8 module offers Afterburner.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "movieapp.jackson.afterburner", havingValue = "true")
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+}
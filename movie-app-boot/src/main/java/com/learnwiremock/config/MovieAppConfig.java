@@ -1,5 +1,7 @@
 package com.learnwiremock.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learnwiremock.jfr.ClientEvents;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -7,8 +9,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.TcpClient;
 
 @Configuration
@@ -17,17 +23,35 @@ public class MovieAppConfig {
     @Value("${movieapp.baseUrl}")
     private String baseUrl;
 
+    /**
+     * Upper bound of pooled connections to the movies service, each one serving a single call at a time.
+     */
+    @Value("${movieapp.http.maxConnections:500}")
+    private int maxConnections;
+
+    /**
+     * Codecs share the application {@link ObjectMapper}, so its deserializer cache is the one the warm-up fills.
+     */
     @Bean
-    public WebClient webClient(){
+    public WebClient webClient(ObjectMapper objectMapper){
 
-        TcpClient tcpClient = TcpClient.create()
+        TcpClient tcpClient = TcpClient.create(ConnectionProvider.fixed("movies-client", maxConnections))
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
                 .doOnConnected(connection -> {
                     connection.addHandlerLast(new ReadTimeoutHandler(5))
                             .addHandlerLast(new WriteTimeoutHandler(5));
                 });
 
+        ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonDecoder(ClientEvents.decoder(new Jackson2JsonDecoder(objectMapper)));
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                })
+                .build();
+
         return WebClient.builder().clientConnector(new ReactorClientHttpConnector(HttpClient.from(tcpClient)))
+                .exchangeStrategies(exchangeStrategies)
+                .filter(ClientEvents.filter())
                 .baseUrl(baseUrl).build();
 
     }
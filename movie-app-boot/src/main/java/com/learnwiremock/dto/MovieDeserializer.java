@@ -0,0 +1,99 @@
+package com.learnwiremock.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Streaming {@link Movie} deserializer. Field names are canonical strings from the parser's symbol table, so the
+ * switch runs on their cached hashes, and {@code release_date} is parsed from the parser's character buffer. Values
+ * off the fast path go back to databind, which keeps the output identical.
+ */
+public class MovieDeserializer extends StdDeserializer<Movie> {
+
+    public MovieDeserializer() {
+        super(Movie.class);
+    }
+
+    @Override
+    public Movie deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Movie) ctxt.handleUnexpectedToken(Movie.class, p);
+        }
+
+        Movie movie = new Movie();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String fieldName = p.getCurrentName();
+            token = p.nextToken();
+
+            switch (fieldName) {
+                case "movie_id":
+                    movie.setMovie_id(token == JsonToken.VALUE_NUMBER_INT ? Long.valueOf(p.getLongValue()) : readNullable(p, ctxt, Long.class));
+                    break;
+                case "name":
+                    movie.setName(token == JsonToken.VALUE_STRING ? p.getText() : readNullable(p, ctxt, String.class));
+                    break;
+                case "year":
+                    movie.setYear(token == JsonToken.VALUE_NUMBER_INT ? Integer.valueOf(p.getIntValue()) : readNullable(p, ctxt, Integer.class));
+                    break;
+                case "cast":
+                    movie.setCast(token == JsonToken.VALUE_STRING ? p.getText() : readNullable(p, ctxt, String.class));
+                    break;
+                case "release_date":
+                    movie.setRelease_date(releaseDate(p, ctxt, token));
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, movie, fieldName);
+                    break;
+            }
+        }
+
+        return movie;
+    }
+
+    private static <T> T readNullable(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, type);
+    }
+
+    private static LocalDate releaseDate(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING && p.getTextLength() == 10) {
+            char[] chars = p.getTextCharacters();
+            int offset = p.getTextOffset();
+            if (chars[offset + 4] == '-' && chars[offset + 7] == '-') {
+                int year = digits(chars, offset, 4);
+                int month = digits(chars, offset + 5, 2);
+                int day = digits(chars, offset + 8, 2);
+                if (year >= 0 && month >= 0 && day >= 0) {
+                    try {
+                        return LocalDate.of(year, month, day);
+                    } catch (DateTimeException ex) {
+                        // fall through to databind for its error reporting
+                    }
+                }
+            }
+        }
+
+        return readNullable(p, ctxt, LocalDate.class);
+    }
+
+    private static int digits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+}
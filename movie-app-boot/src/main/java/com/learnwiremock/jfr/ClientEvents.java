@@ -0,0 +1,79 @@
+package com.learnwiremock.jfr;
+
+import org.springframework.core.codec.Decoder;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Flight Recorder events of {@link com.learnwiremock.service.MoviesRestClient}. {@link #record} times a call as a
+ * {@link MovieClientCallEvent} kept in the subscriber context, where the {@link #filter()} and the {@link #decoder}
+ * wrapper add the response status and decoded bytes to it.
+ * <p>
+ * Events are enabled by default and carry no stack trace. While no recording has them enabled a call costs one event
+ * allocation and an {@link jdk.jfr.Event#isEnabled()} check. {@code jdk.jfr} needs JDK 11, or 8u262 and later on Java 8.
+ */
+public final class ClientEvents {
+
+    private ClientEvents() {
+    }
+
+    public static <T> Mono<T> record(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            MovieClientCallEvent event = new MovieClientCallEvent();
+            if (!event.isEnabled()) {
+                return call;
+            }
+
+            event.operation = operation;
+            event.begin();
+
+            return call
+                    .doOnSuccess(value -> completed(event, "success"))
+                    .doOnError(error -> completed(event, "error"))
+                    .doOnCancel(() -> completed(event, "cancelled"))
+                    .subscriberContext(context -> context.put(MovieClientCallEvent.class, event));
+        });
+    }
+
+    /**
+     * Adds the response status to calls made through {@link #record}.
+     */
+    public static ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.subscriberContext()
+                .flatMap(context -> {
+                    MovieClientCallEvent call = call(context);
+                    if (call == null) {
+                        return next.exchange(request);
+                    }
+
+                    return next.exchange(request)
+                            .doOnNext(response -> call.status = response.rawStatusCode());
+                });
+    }
+
+    /**
+     * Wraps a body decoder with {@link MovieDecodeEvent}s.
+     */
+    public static <T> Decoder<T> decoder(Decoder<T> decoder) {
+        return new RecordingDecoder<>(decoder);
+    }
+
+    static MovieClientCallEvent call(Context context) {
+        return context.getOrDefault(MovieClientCallEvent.class, null);
+    }
+
+    private static void completed(MovieClientCallEvent event, String outcome) {
+        synchronized (event) {
+            if (event.outcome != null) {
+                return;
+            }
+            event.outcome = outcome;
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.learnwiremock.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call of {@link com.learnwiremock.service.MoviesRestClient}, from the request until its response is decoded.
+ */
+@Name(MovieClientCallEvent.NAME)
+@Label("Movie Client Call")
+@Category({"Movies Client"})
+@Description("One call of the movies client, from the request until its response is decoded")
+@StackTrace(false)
+public class MovieClientCallEvent extends Event {
+    public static final String NAME = "com.learnwiremock.MovieClientCall";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Status")
+    @Description("HTTP status of the response, -1 when none arrived")
+    int status = -1;
+
+    @Label("Bytes")
+    @Description("Response body bytes decoded")
+    @DataAmount
+    long bytes;
+
+    @Label("Outcome")
+    String outcome;
+}
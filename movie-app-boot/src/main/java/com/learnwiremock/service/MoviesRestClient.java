@@ -2,6 +2,7 @@ package com.learnwiremock.service;
 
 import com.learnwiremock.dto.Movie;
 import com.learnwiremock.exception.MovieErrorResponse;
+import com.learnwiremock.jfr.ClientEvents;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -32,10 +33,10 @@ public class MoviesRestClient {
         List<Movie> movieList;
         try {
             log.info("Inside retrieve all movies");
-            movieList = webClient.get().uri(GET_ALL_MOVIES_V1)
+            movieList = ClientEvents.record("retrieveAllMovies", webClient.get().uri(GET_ALL_MOVIES_V1)
                     .retrieve() // actual call is made to the api
                     .bodyToFlux(Movie.class) //body is converted to flux(Represents multiple items)
-                    .collectList() // collecting the httpResponse as a list\
+                    .collectList()) // collecting the httpResponse as a list\
                     .block(); // This call makes the Webclient to behave as a synchronous client.
             log.info("after the call");
         } catch (WebClientResponseException ex) {
@@ -51,9 +52,9 @@ public class MoviesRestClient {
     public Movie retrieveMovieById(Integer movieId) {
         Movie movie;
         try {
-            movie = webClient.get().uri(MOVIE_BY_ID_PATH_PARAM_V1, movieId) //mapping the movie id to the url
+            movie = ClientEvents.record("retrieveMovieById", webClient.get().uri(MOVIE_BY_ID_PATH_PARAM_V1, movieId) //mapping the movie id to the url
                     .retrieve()
-                    .bodyToMono(Movie.class) //body is converted to Mono(Represents single item)
+                    .bodyToMono(Movie.class)) //body is converted to Mono(Represents single item)
                     .block();
         } catch (WebClientResponseException ex) {
             log.error("WebClientResponseException - Exception is {} and the Error Message is : {}", ex, ex.getResponseBodyAsString());
@@ -75,10 +76,10 @@ public class MoviesRestClient {
                 .toUriString();
 
         try {
-            movieList = webClient.get().uri(retrieveByNameUri)
+            movieList = ClientEvents.record("retrieveMovieByName", webClient.get().uri(retrieveByNameUri)
                     .retrieve()
                     .bodyToFlux(Movie.class)
-                    .collectList()
+                    .collectList())
                     .block();
         } catch (WebClientResponseException ex) {
             log.error("WebClientResponseException - Exception is {} and the Error Message is : {}", ex, ex.getResponseBodyAsString());
@@ -105,10 +106,10 @@ public class MoviesRestClient {
         List<Movie> movieList;
 
         try {
-            movieList = webClient.get().uri(retrieveByYearUri)
+            movieList = ClientEvents.record("retrieveMovieByYear", webClient.get().uri(retrieveByYearUri)
                     .retrieve()
                     .bodyToFlux(Movie.class)
-                    .collectList()
+                    .collectList())
                     .block();
         } catch (WebClientResponseException ex) {
             log.error("WebClientResponseException in retreieveMovieByYear {} and the Error Message is : {} ", ex, ex.getResponseBodyAsString());
@@ -129,10 +130,10 @@ public class MoviesRestClient {
     public Movie addNewMovie(Movie newMovie) {
         Movie movie;
         try {
-            movie = webClient.post().uri( ADD_MOVIE_V1)
+            movie = ClientEvents.record("addNewMovie", webClient.post().uri( ADD_MOVIE_V1)
                     .syncBody(newMovie)
                     .retrieve()
-                    .bodyToMono(Movie.class)
+                    .bodyToMono(Movie.class))
                     .block();
             log.info("New Movie SuccessFully addded {} ", movie);
         } catch (WebClientResponseException ex) {
@@ -149,10 +150,10 @@ public class MoviesRestClient {
         Movie updatedMovie;
 
         try {
-            updatedMovie = webClient.put().uri( MOVIE_BY_ID_PATH_PARAM_V1, movieId)
+            updatedMovie = ClientEvents.record("updateMovie", webClient.put().uri( MOVIE_BY_ID_PATH_PARAM_V1, movieId)
                     .syncBody(movie)
                     .retrieve()
-                    .bodyToMono(Movie.class)
+                    .bodyToMono(Movie.class))
                     .block();
             log.info(" Movie SuccessFully updated {} ", updatedMovie);
         } catch (WebClientResponseException ex) {
@@ -170,9 +171,9 @@ public class MoviesRestClient {
 
         String response;
         try {
-            response = webClient.delete().uri( MOVIE_BY_ID_PATH_PARAM_V1, movieId)
+            response = ClientEvents.record("deleteMovieById", webClient.delete().uri( MOVIE_BY_ID_PATH_PARAM_V1, movieId)
                     .retrieve()
-                    .bodyToMono(String.class)
+                    .bodyToMono(String.class))
                     .block();
         }catch (WebClientResponseException ex) {
             log.error("WebClientResponseException - Error Message is : {}", ex, ex.getResponseBodyAsString());
@@ -190,9 +191,9 @@ public class MoviesRestClient {
 
 
         try {
-            webClient.delete().uri( MOVIE_BY_NAME_PATH_PARAM_V1, movieName)
+            ClientEvents.record("deleteMovieByName", webClient.delete().uri( MOVIE_BY_NAME_PATH_PARAM_V1, movieName)
                     .retrieve()
-                    .bodyToMono(Void.class)
+                    .bodyToMono(Void.class))
                     .block();
         }catch (WebClientResponseException ex) {
             log.error("WebClientResponseException - The Status code is {} and the Error Message is : {}", ex.getRawStatusCode(), ex.getResponseBodyAsString());
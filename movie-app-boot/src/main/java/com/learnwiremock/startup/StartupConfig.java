@@ -0,0 +1,21 @@
+package com.learnwiremock.startup;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@ConditionalOnProperty(name = "movieapp.startup.lazy-init", havingValue = "true")
+public class StartupConfig {
+
+    /**
+     * Beans with startup side effects of their own, such as mapping the catalog snapshot, stay eager.
+     */
+    @Bean
+    public static LazyInitBeanFactoryPostProcessor lazyInitBeanFactoryPostProcessor(Environment environment) {
+        return new LazyInitBeanFactoryPostProcessor(StringUtils.commaDelimitedListToSet(
+                environment.getProperty("movieapp.startup.eager-beans", "catalogSnapshotLoader")));
+    }
+}
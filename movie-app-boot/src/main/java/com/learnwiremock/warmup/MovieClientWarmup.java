@@ -0,0 +1,116 @@
+package com.learnwiremock.warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learnwiremock.dto.Movie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Pays the first-call costs before the application reports ready: DNS, TCP connects and the Netty pipeline for
+ * {@code connections} pooled connections, Jackson deserializers for {@link Movie}, and JIT compilation of the decode
+ * path. Runners complete before {@code ApplicationReadyEvent}, so readiness follows the warm-up.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movieapp.warmup.enabled", havingValue = "true")
+public class MovieClientWarmup implements ApplicationRunner {
+
+    private static final TypeReference<List<Movie>> MOVIE_LIST = new TypeReference<List<Movie>>() {
+    };
+
+    private final WebClient webClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final int connections;
+
+    private final int iterations;
+
+    private final String path;
+
+    private final Duration timeout;
+
+    private volatile boolean warm;
+
+    public MovieClientWarmup(WebClient webClient,
+                             ObjectMapper objectMapper,
+                             @Value("${movieapp.warmup.connections:8}") int connections,
+                             @Value("${movieapp.warmup.iterations:10000}") int iterations,
+                             @Value("${movieapp.warmup.path:/}") String path,
+                             @Value("${movieapp.warmup.timeout:PT10S}") Duration timeout) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.connections = connections;
+        this.iterations = iterations;
+        this.path = path;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long start = System.nanoTime();
+
+        int opened = openConnections();
+        warmDeserialization();
+
+        warm = true;
+        log.info("Movie client warm after {} ms, {} connections opened and {} decode iterations",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), opened, iterations);
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Issues {@code connections} concurrent HEAD requests, so the pool has to open that many connections. Any response
+     * status will do.
+     */
+    int openConnections() {
+        try {
+            Long opened = Flux.range(0, connections)
+                    .flatMap(i -> webClient.head().uri(path)
+                            .exchange()
+                            .flatMap(response -> response.bodyToMono(Void.class))
+                            .thenReturn(i)
+                            .onErrorResume(ex -> {
+                                log.warn("Warm-up request to {} failed : {}", path, ex.getMessage());
+                                return Mono.empty();
+                            }), connections)
+                    .count()
+                    .block(timeout);
+
+            return opened == null ? 0 : opened.intValue();
+        } catch (Exception ex) {
+            log.warn("Connection warm-up did not complete : {}", ex.getMessage());
+            return 0;
+        }
+    }
+
+    void warmDeserialization() throws IOException {
+        byte[] payload;
+        try (InputStream in = new ClassPathResource("warmup/movies.json").getInputStream()) {
+            payload = StreamUtils.copyToByteArray(in);
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            List<Movie> movies = objectMapper.readValue(payload, MOVIE_LIST);
+            objectMapper.writeValueAsBytes(movies.get(i % movies.size()));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.learnwiremock.catalog;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.learnwiremock.MovieAppBootApplication;
+import com.learnwiremock.dto.Movie;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.learnwiremock.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotLoaderTest {
+
+    private static final int UPSTREAM_MOVIES = 10;
+
+    static WireMockServer wireMockServer;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void stubMovieService() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+    }
+
+    @Test
+    void load_servesSnapshotBeforeReconcile() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        List<Movie> local = Collections.singletonList(
+                new Movie(1L, "Batman Begins", 2005, "Christian Bale", LocalDate.of(2005, 6, 15)));
+        CatalogSnapshot.write(path, local);
+        wireMockServer.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")
+                        .withFixedDelay(2000)));
+
+        //when
+        try (ConfigurableApplicationContext context = run(path)) {
+            CatalogSnapshotLoader loader = context.getBean(CatalogSnapshotLoader.class);
+
+            //then
+            assertTrue(loader.isLoaded());
+            assertEquals(local, loader.movies());
+        }
+    }
+
+    @Test
+    void load_corruptSnapshotFallsBackToUpstream() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        Files.write(path, new byte[]{0x4D, 0x56, 0x43, 0x53, 0, 1, 0, 0, 0x7F, 0x7F, 0x7F, 0x7F});
+
+        //when
+        try (ConfigurableApplicationContext context = run(path)) {
+            CatalogSnapshotLoader loader = context.getBean(CatalogSnapshotLoader.class);
+
+            //then
+            awaitUntil(loader::isLoaded);
+            assertEquals(UPSTREAM_MOVIES, loader.movies().size());
+            assertEquals(UPSTREAM_MOVIES, CatalogSnapshot.open(path).size());
+        }
+    }
+
+    @Test
+    void reconcile_rewritesStaleSnapshot() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, Arrays.asList(
+                new Movie(1L, "Batman Begins", 2005, "Christian Bale", LocalDate.of(2005, 6, 15)),
+                new Movie(99L, "Removed upstream", 1999, null, null)));
+
+        //when
+        try (ConfigurableApplicationContext context = run(path)) {
+            CatalogSnapshotLoader loader = context.getBean(CatalogSnapshotLoader.class);
+
+            //then
+            awaitUntil(() -> loader.movies().size() == UPSTREAM_MOVIES);
+            assertEquals(loader.movies(), CatalogSnapshot.open(path).movies());
+            assertFalse(loader.movies().stream().anyMatch(movie -> Long.valueOf(99L).equals(movie.getMovie_id())));
+            wireMockServer.verify(1, getRequestedFor(urlEqualTo(GET_ALL_MOVIES_V1)));
+        }
+    }
+
+    private ConfigurableApplicationContext run(Path snapshotPath) {
+        return new SpringApplicationBuilder(MovieAppBootApplication.class)
+                .properties("movieapp.baseUrl=http://localhost:" + wireMockServer.port(),
+                        "server.port=0",
+                        "movieapp.snapshot.path=" + snapshotPath)
+                .run();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 10 seconds");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
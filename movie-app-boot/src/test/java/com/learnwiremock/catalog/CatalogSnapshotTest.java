@@ -0,0 +1,103 @@
+package com.learnwiremock.catalog;
+
+import com.learnwiremock.dto.Movie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Movie> movies = Arrays.asList(
+            new Movie(1L, "Batman Begins", 2005, "Christian Bale, Katie Holmes , Liam Neeson", LocalDate.of(2005, 6, 15)),
+            new Movie(2L, "Dark Knight", 2008, "Christian Bale, Heath Ledger , Michael Caine", LocalDate.of(2008, 7, 18)),
+            new Movie(3L, "The Dark Knight Rises", 2012, "Christian Bale, Heath Ledger , Michael Caine", LocalDate.of(2012, 7, 20)),
+            new Movie(null, "Amélie", null, null, null));
+
+    @Test
+    void writeAndOpen() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, movies);
+
+        //when
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+
+        //then
+        assertEquals(4, snapshot.size());
+        assertEquals(movies, snapshot.movies());
+        assertEquals(movies.get(2), snapshot.movie(2));
+    }
+
+    @Test
+    void open_corruptedPayload() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, movies);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(CatalogSnapshot.HEADER_SIZE + 3);
+            file.write(0x7F);
+        }
+
+        //then
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(path));
+    }
+
+    @Test
+    void open_unknownVersion() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, movies);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(4);
+            file.writeShort(CatalogSnapshot.VERSION + 1);
+        }
+
+        //then
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(path));
+    }
+
+    @Test
+    void open_corruptedMovieCount() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, movies);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(8);
+            file.writeInt(Integer.MAX_VALUE / 8);
+        }
+
+        //then
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(path));
+    }
+
+    @Test
+    void open_corruptedStringCount() throws IOException {
+
+        //given
+        Path path = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, movies);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(12);
+            file.writeInt(1);
+        }
+
+        //then
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(path));
+    }
+}
@@ -0,0 +1,103 @@
+package com.learnwiremock.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MovieDeserializerTest {
+
+    private static final TypeReference<List<Movie>> MOVIE_LIST = new TypeReference<List<Movie>>() {
+    };
+
+    private final ObjectMapper databind = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final ObjectMapper handWritten = databind.copy()
+            .registerModule(new SimpleModule("movies").addDeserializer(Movie.class, new MovieDeserializer()));
+
+    @Test
+    void matchesDatabind() throws IOException {
+
+        //given
+        Random random = new Random(20210601L);
+
+        for (int i = 0; i < 2_000; i++) {
+            String json = randomMovies(random, 1 + random.nextInt(8));
+
+            //when
+            List<Movie> expected = databind.readValue(json, MOVIE_LIST);
+            List<Movie> actual = handWritten.readValue(json, MOVIE_LIST);
+
+            //then
+            assertEquals(expected, actual, json);
+        }
+    }
+
+    @Test
+    void coercedValues() throws IOException {
+
+        //given
+        String json = "{\"movie_id\":\"9\",\"year\":\"2019\",\"name\":\"Toy Story 4\",\"release_date\":\"2019-06-20T00:00:00Z\"}";
+
+        //when
+        Movie movie = handWritten.readValue(json, Movie.class);
+
+        //then
+        assertEquals(databind.readValue(json, Movie.class), movie);
+        assertEquals(LocalDate.of(2019, 6, 20), movie.getRelease_date());
+    }
+
+    private static String randomMovies(Random random, int count) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = new ObjectMapper().getFactory().createGenerator(writer)) {
+            generator.writeStartArray();
+            for (int i = 0; i < count; i++) {
+                List<String> fields = new ArrayList<>(Arrays.asList("movie_id", "name", "year", "cast", "release_date", "rating"));
+                Collections.shuffle(fields, random);
+
+                generator.writeStartObject();
+                for (String field : fields) {
+                    int choice = random.nextInt(10);
+                    if (choice == 0) {
+                        continue;
+                    }
+
+                    generator.writeFieldName(field);
+                    if (choice == 1) {
+                        generator.writeNull();
+                    } else if ("movie_id".equals(field)) {
+                        generator.writeNumber(random.nextLong() >>> random.nextInt(64));
+                    } else if ("year".equals(field)) {
+                        generator.writeNumber(1900 + random.nextInt(200));
+                    } else if ("release_date".equals(field)) {
+                        generator.writeString(LocalDate.ofEpochDay(random.nextInt(100_000) - 20_000).toString());
+                    } else if ("rating".equals(field)) {
+                        generator.writeNumber(random.nextDouble() * 10);
+                    } else {
+                        generator.writeString(Long.toString(random.nextLong(), 36) + " \"é☃\"");
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+
+        return writer.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.learnwiremock.jfr;
+
+import com.learnwiremock.exception.MovieErrorResponse;
+import com.learnwiremock.service.MoviesRestClient;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.util.StreamUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.learnwiremock.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureWireMock(port = 0)
+@TestPropertySource(properties= {"movieapp.baseUrl=http://localhost:${wiremock.server.port}"})
+class ClientEventsTest {
+
+    @Autowired
+    MoviesRestClient moviesRestClient;
+
+    @Test
+    void retrieveAllMovies_recordsCallAndDecode() throws Exception {
+
+        //given
+        stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+        long bodyBytes = StreamUtils.copyToByteArray(new ClassPathResource("__files/all-movies.json").getInputStream()).length;
+
+        //when
+        List<RecordedEvent> events = record(() -> moviesRestClient.retrieveAllMovies());
+
+        //then
+        List<RecordedEvent> calls = events(events, MovieClientCallEvent.NAME);
+        assertEquals(1, calls.size());
+        assertEquals("retrieveAllMovies", calls.get(0).getString("operation"));
+        assertEquals(HttpStatus.OK.value(), calls.get(0).getInt("status"));
+        assertEquals(bodyBytes, calls.get(0).getLong("bytes"));
+        assertEquals("success", calls.get(0).getString("outcome"));
+
+        List<RecordedEvent> decodes = events(events, MovieDecodeEvent.NAME);
+        assertEquals(1, decodes.size());
+        assertEquals("retrieveAllMovies", decodes.get(0).getString("operation"));
+        assertEquals(bodyBytes, decodes.get(0).getLong("bytes"));
+        assertTrue(decodes.get(0).getBoolean("streamed"));
+    }
+
+    @Test
+    void retrieveMovieById_notFound_recordsError() throws Exception {
+
+        //given
+        stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
+
+        //when
+        List<RecordedEvent> events = record(() -> assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100)));
+
+        //then
+        List<RecordedEvent> calls = events(events, MovieClientCallEvent.NAME);
+        assertEquals(1, calls.size());
+        assertEquals(HttpStatus.NOT_FOUND.value(), calls.get(0).getInt("status"));
+        assertEquals("error", calls.get(0).getString("outcome"));
+    }
+
+    private static List<RecordedEvent> record(Runnable calls) throws Exception {
+        Path file = Files.createTempFile("movie-app-boot", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(MovieClientCallEvent.NAME);
+            recording.enable(MovieDecodeEvent.NAME);
+            recording.start();
+
+            calls.run();
+
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
@@ -34,8 +34,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
-@AutoConfigureWireMock(port = 8090)
-@TestPropertySource(properties= {"movieapp.baseUrl=http://localhost:8090"})
+@AutoConfigureWireMock(port = 0)
+@TestPropertySource(properties= {"movieapp.baseUrl=http://localhost:${wiremock.server.port}"})
 class MoviesRestClientJunit5Test {
 
     @Autowired
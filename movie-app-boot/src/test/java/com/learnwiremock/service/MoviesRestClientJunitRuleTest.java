@@ -13,12 +13,16 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.SocketUtils;
 
 
 import java.time.LocalDate;
@@ -32,14 +36,23 @@ import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
-@TestPropertySource(properties= {"movieapp.baseUrl=http://localhost:8089"})
+@ContextConfiguration(initializers = MoviesRestClientJunitRuleTest.BaseUrlInitializer.class)
 public class MoviesRestClientJunitRuleTest {
 
+    static final int PORT = SocketUtils.findAvailableTcpPort();
+
+    static class BaseUrlInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+        @Override
+        public void initialize(ConfigurableApplicationContext context) {
+            TestPropertyValues.of("movieapp.baseUrl=http://localhost:" + PORT).applyTo(context);
+        }
+    }
+
     @Autowired
     MoviesRestClient moviesRestClient;
 
     Options options = wireMockConfig().
-            port(8089)
+            port(PORT)
             .notifier(new ConsoleNotifier(true))
             .extensions(new ResponseTemplateTransformer(true));
 
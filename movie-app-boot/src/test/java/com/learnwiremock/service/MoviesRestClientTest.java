@@ -35,8 +35,8 @@ import com.learnwiremock.constants.MoviesAppConstants.*;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
-@AutoConfigureWireMock(port = 8088)
-@TestPropertySource(properties= {"movieapp.baseUrl=http://localhost:8088"})
+@AutoConfigureWireMock(port = 0)
+@TestPropertySource(properties= {"movieapp.baseUrl=http://localhost:${wiremock.server.port}"})
 public class MoviesRestClientTest {
 
 
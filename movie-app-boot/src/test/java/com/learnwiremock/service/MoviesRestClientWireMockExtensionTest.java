@@ -19,12 +19,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.SocketUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDate;
@@ -38,16 +42,25 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
-@TestPropertySource(properties= {"movieapp.baseUrl=http://localhost:8091"})
+@ContextConfiguration(initializers = MoviesRestClientWireMockExtensionTest.BaseUrlInitializer.class)
 @ExtendWith(WireMockExtension.class)
 class MoviesRestClientWireMockExtensionTest {
 
+    static final int PORT = SocketUtils.findAvailableTcpPort();
+
+    static class BaseUrlInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+        @Override
+        public void initialize(ConfigurableApplicationContext context) {
+            TestPropertyValues.of("movieapp.baseUrl=http://localhost:" + PORT).applyTo(context);
+        }
+    }
+
     @Autowired
     MoviesRestClient moviesRestClient;
 
     @ConfigureWireMock
     Options options = wireMockConfig()
-            .port(8091)
+            .port(PORT)
             .notifier(new ConsoleNotifier(true))
             .extensions(new ResponseTemplateTransformer(true));
 
@@ -0,0 +1,97 @@
+package com.learnwiremock.startup;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.learnwiremock.MovieAppBootApplication;
+import com.learnwiremock.dto.Movie;
+import com.learnwiremock.service.MoviesRestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures time-to-first-successful-call, from {@code SpringApplication.run} until the first movie comes back from
+ * WireMock, for the default and the startup profile. Whichever runs second benefits from classes already loaded, so
+ * compare them one at a time with {@code --tests}.
+ */
+class StartupTimeTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeTest.class);
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void timeToFirstCall_defaultProfile() {
+        long elapsedMillis = timeToFirstCall();
+
+        log.info("time to first call (default) : {} ms", elapsedMillis);
+    }
+
+    @Test
+    void timeToFirstCall_startupProfile() {
+        long elapsedMillis = timeToFirstCall("startup");
+
+        log.info("time to first call (startup) : {} ms", elapsedMillis);
+    }
+
+    @Test
+    void startupProfile_isLazyAndHasNoWebServer() {
+
+        //when
+        try (ConfigurableApplicationContext context = run("startup")) {
+
+            //then
+            assertFalse(context.containsBean("webServerStartStop"));
+            assertFalse(context.containsBean("reactiveWebServerFactory"));
+            assertTrue(((AbstractApplicationContext) context).getBeanFactory().getBeanDefinition("webClient").isLazyInit());
+        }
+    }
+
+    private long timeToFirstCall(String... profiles) {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = run(profiles)) {
+            Movie movie = context.getBean(MoviesRestClient.class).retrieveMovieById(1);
+            long elapsed = System.nanoTime() - start;
+
+            assertNotNull(movie);
+            return TimeUnit.NANOSECONDS.toMillis(elapsed);
+        }
+    }
+
+    private ConfigurableApplicationContext run(String... profiles) {
+        return new SpringApplicationBuilder(MovieAppBootApplication.class)
+                .profiles(profiles)
+                .properties("movieapp.baseUrl=http://localhost:" + wireMockServer.port(),
+                        "server.port=0")
+                .run();
+    }
+}
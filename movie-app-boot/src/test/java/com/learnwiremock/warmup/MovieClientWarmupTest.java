@@ -0,0 +1,90 @@
+package com.learnwiremock.warmup;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.learnwiremock.MovieAppBootApplication;
+import com.learnwiremock.service.MoviesRestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * First-request latency with and without the warm-up. The cold run still shares class loading with whatever ran before
+ * it in this JVM, so the gap is smaller than on a fresh pod.
+ */
+class MovieClientWarmupTest {
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void stubMovieService() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(head(urlEqualTo("/"))
+                .willReturn(aResponse().withStatus(HttpStatus.OK.value())));
+        wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+    }
+
+    @Test
+    void firstCall_cold() {
+        try (ConfigurableApplicationContext context = run(false)) {
+            System.out.println("first call (cold) : " + firstCallMicros(context) + " us");
+        }
+    }
+
+    @Test
+    void firstCall_warm() {
+        try (ConfigurableApplicationContext context = run(true)) {
+
+            //then
+            assertTrue(context.getBean(MovieClientWarmup.class).isWarm());
+            wireMockServer.verify(4, headRequestedFor(urlEqualTo("/")));
+
+            System.out.println("first call (warm) : " + firstCallMicros(context) + " us");
+        }
+    }
+
+    private long firstCallMicros(ConfigurableApplicationContext context) {
+        MoviesRestClient moviesRestClient = context.getBean(MoviesRestClient.class);
+
+        long start = System.nanoTime();
+        assertNotNull(moviesRestClient.retrieveMovieById(1));
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+    }
+
+    private ConfigurableApplicationContext run(boolean warmup) {
+        return new SpringApplicationBuilder(MovieAppBootApplication.class)
+                .properties("movieapp.baseUrl=http://localhost:" + wireMockServer.port(),
+                        "server.port=0",
+                        "movieapp.warmup.enabled=" + warmup,
+                        "movieapp.warmup.connections=4",
+                        "movieapp.warmup.iterations=2000")
+                .run();
+    }
+}
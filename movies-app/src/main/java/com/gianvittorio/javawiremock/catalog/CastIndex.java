@@ -0,0 +1,129 @@
+package com.gianvittorio.javawiremock.catalog;
+
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Actor to movie inverted index over the rows of a {@link MovieCatalog}.
+ * <p>
+ * Each distinct cast string is parsed once, its actors are interned into a dictionary and every actor owns a compressed
+ * bitmap of catalog rows, so "movies with X and Y" is a bitmap intersection rather than a scan of the catalog.
+ * <p>
+ * The index is a snapshot of the catalog at {@link #build} time. Any later put or removal, including the row moves of
+ * {@link MovieCatalog#removeRow}, invalidates the row numbers, so queries on a stale index fail instead of returning
+ * the wrong movies; rebuild it after each sync.
+ */
+public class CastIndex {
+    private final MovieCatalog catalog;
+
+    private final int catalogModifications;
+
+    private final StringDictionary actors = new StringDictionary();
+
+    private final List<RoaringBitmap> rowsByActor = new ArrayList<>();
+
+    private CastIndex(MovieCatalog catalog) {
+        this.catalog = catalog;
+        this.catalogModifications = catalog.modifications();
+    }
+
+    public static CastIndex build(MovieCatalog catalog) {
+        CastIndex index = new CastIndex(catalog);
+        int[][] actorsByCast = new int[catalog.distinctCasts()][];
+
+        for (int row = 0; row < catalog.size(); row++) {
+            int castCode = catalog.castCode(row);
+            if (castCode == StringDictionary.NO_CODE) {
+                continue;
+            }
+
+            int[] actorIds = actorsByCast[castCode];
+            if (actorIds == null) {
+                actorIds = index.intern(CastParser.parse(catalog.castOf(castCode)));
+                actorsByCast[castCode] = actorIds;
+            }
+
+            for (int actorId : actorIds) {
+                index.rowsByActor.get(actorId).add(row);
+            }
+        }
+
+        index.rowsByActor.forEach(RoaringBitmap::runOptimize);
+
+        return index;
+    }
+
+    /**
+     * Whether the catalog changed since the index was built.
+     */
+    public boolean isStale() {
+        return catalog.modifications() != catalogModifications;
+    }
+
+    public int actorCount() {
+        return actors.size();
+    }
+
+    public RoaringBitmap rowsWith(String actor) {
+        checkCurrent();
+        int actorId = actors.codeOf(CastParser.key(actor));
+
+        return actorId == StringDictionary.NO_CODE ? new RoaringBitmap() : rowsByActor.get(actorId).clone();
+    }
+
+    public RoaringBitmap rowsWithAll(String... actorNames) {
+        checkCurrent();
+        if (actorNames.length == 0) {
+            return new RoaringBitmap();
+        }
+
+        RoaringBitmap rows = rowsWith(actorNames[0]);
+        for (int i = 1; i < actorNames.length && !rows.isEmpty(); i++) {
+            int actorId = actors.codeOf(CastParser.key(actorNames[i]));
+            if (actorId == StringDictionary.NO_CODE) {
+                return new RoaringBitmap();
+            }
+            rows.and(rowsByActor.get(actorId));
+        }
+
+        return rows;
+    }
+
+    public List<MovieDTO> moviesWith(String actor) {
+        return materialize(rowsWith(actor));
+    }
+
+    public List<MovieDTO> moviesWithAll(String... actorNames) {
+        return materialize(rowsWithAll(actorNames));
+    }
+
+    private void checkCurrent() {
+        if (isStale()) {
+            throw new IllegalStateException("Catalog changed since the cast index was built, rebuild it with CastIndex.build");
+        }
+    }
+
+    private int[] intern(List<String> names) {
+        int[] actorIds = new int[names.size()];
+
+        for (int i = 0; i < actorIds.length; i++) {
+            int actorId = actors.encode(CastParser.key(names.get(i)));
+            if (actorId == rowsByActor.size()) {
+                rowsByActor.add(new RoaringBitmap());
+            }
+            actorIds[i] = actorId;
+        }
+
+        return actorIds;
+    }
+
+    private List<MovieDTO> materialize(RoaringBitmap rows) {
+        List<MovieDTO> movies = new ArrayList<>(rows.getCardinality());
+        rows.forEach((int row) -> movies.add(catalog.get(row)));
+
+        return movies;
+    }
+}
@@ -0,0 +1,66 @@
+package com.gianvittorio.javawiremock.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits the comma-separated {@code cast} field into normalized actor names.
+ * <p>
+ * "Christian Bale, Heath Ledger , Michael Caine" yields "Christian Bale", "Heath Ledger" and "Michael Caine": names are
+ * trimmed and inner whitespace runs collapse to a single space. Matching keys are additionally lower-cased.
+ */
+public final class CastParser {
+
+    private CastParser() {
+    }
+
+    public static List<String> parse(String cast) {
+        if (cast == null || cast.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> names = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= cast.length(); i++) {
+            if (i == cast.length() || cast.charAt(i) == ',') {
+                String name = normalize(cast, start, i);
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+                start = i + 1;
+            }
+        }
+
+        return names;
+    }
+
+    public static String normalize(String name) {
+        return name == null ? "" : normalize(name, 0, name.length());
+    }
+
+    static String key(String name) {
+        return normalize(name).toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalize(String value, int from, int to) {
+        StringBuilder builder = new StringBuilder(to - from);
+        boolean pendingSpace = false;
+
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    builder.append(' ');
+                    pendingSpace = false;
+                }
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+}
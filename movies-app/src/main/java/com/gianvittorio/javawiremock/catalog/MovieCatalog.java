@@ -0,0 +1,283 @@
+package com.gianvittorio.javawiremock.catalog;
+
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Columnar, in-memory store of the movie catalog.
+ * <p>
+ * Every field of {@link MovieDTO} lives in its own primitive column: ids in a {@code long[]}, years in a {@code short[]},
+ * release dates as epoch days in an {@code int[]}, and names and casts as codes into string dictionaries, so a cast
+ * shared by hundreds of films is stored once. Rows are addressed by position and looked up by movie id.
+ */
+public class MovieCatalog {
+    public static final int NO_ROW = LongIntHashMap.NOT_FOUND;
+
+    static final long NO_ID = Long.MIN_VALUE;
+
+    static final short NO_YEAR = Short.MIN_VALUE;
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private long[] movieIds;
+
+    private short[] years;
+
+    private int[] releaseDates;
+
+    private int[] nameCodes;
+
+    private int[] castCodes;
+
+    private int size;
+
+    /**
+     * Bumped on every write and removal, so row-addressed structures built over the catalog can tell they are stale.
+     */
+    private int modifications;
+
+    private final StringDictionary names = new StringDictionary();
+
+    private final StringDictionary casts = new StringDictionary();
+
+    private final LongIntHashMap rowsById;
+
+    public MovieCatalog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MovieCatalog(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+
+        movieIds = new long[capacity];
+        years = new short[capacity];
+        releaseDates = new int[capacity];
+        nameCodes = new int[capacity];
+        castCodes = new int[capacity];
+        rowsById = new LongIntHashMap(capacity);
+    }
+
+    public static MovieCatalog of(Iterable<MovieDTO> movies) {
+        MovieCatalog catalog = new MovieCatalog();
+        movies.forEach(catalog::put);
+        catalog.trimToSize();
+
+        return catalog;
+    }
+
+    /**
+     * Inserts the movie, or overwrites the row already holding its id.
+     *
+     * @return the row the movie was written to
+     */
+    public int put(MovieDTO movieDTO) {
+        int row = movieDTO.getMovieId() == null ? NO_ROW : rowOf(movieDTO.getMovieId());
+        if (row == NO_ROW) {
+            ensureCapacity(size + 1);
+            row = size++;
+        }
+
+        write(row, movieDTO);
+
+        return row;
+    }
+
+    /**
+     * Removes the movie, moving the last row into the freed one so the columns stay dense.
+     *
+     * @return whether the catalog held the movie
+     */
+    public boolean remove(long movieId) {
+        int row = rowOf(movieId);
+        if (row == NO_ROW) {
+            return false;
+        }
+
+        removeRow(row);
+
+        return true;
+    }
+
+    public void removeRow(int row) {
+        checkRow(row);
+        modifications++;
+        if (movieIds[row] != NO_ID) {
+            rowsById.remove(movieIds[row]);
+        }
+
+        int last = --size;
+        if (row != last) {
+            movieIds[row] = movieIds[last];
+            years[row] = years[last];
+            releaseDates[row] = releaseDates[last];
+            nameCodes[row] = nameCodes[last];
+            castCodes[row] = castCodes[last];
+            if (movieIds[row] != NO_ID) {
+                rowsById.put(movieIds[row], row);
+            }
+        }
+    }
+
+    /**
+     * @return the row holding the movie, or {@link #NO_ROW}
+     */
+    public int rowOf(long movieId) {
+        return rowsById.get(movieId);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Long movieId(int row) {
+        long movieId = movieIds[checkRow(row)];
+
+        return movieId == NO_ID ? null : movieId;
+    }
+
+    public Integer year(int row) {
+        short year = years[checkRow(row)];
+
+        return year == NO_YEAR ? null : (int) year;
+    }
+
+    public LocalDate releaseDate(int row) {
+        int epochDay = releaseDates[checkRow(row)];
+
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    public String name(int row) {
+        return names.decode(nameCodes[checkRow(row)]);
+    }
+
+    public String cast(int row) {
+        return casts.decode(castCodes[checkRow(row)]);
+    }
+
+    int modifications() {
+        return modifications;
+    }
+
+    int castCode(int row) {
+        return castCodes[checkRow(row)];
+    }
+
+    int distinctCasts() {
+        return casts.size();
+    }
+
+    String castOf(int castCode) {
+        return casts.decode(castCode);
+    }
+
+    /**
+     * Whether the row holds the same content as the movie, everything but the id. Columns are compared directly, so
+     * no two different movies are ever reported as equal.
+     */
+    public boolean contentEquals(int row, MovieDTO movieDTO) {
+        checkRow(row);
+
+        return years[row] == encodeYear(movieDTO.getYear())
+                && releaseDates[row] == encodeDate(movieDTO.getReleaseDate())
+                && Objects.equals(names.decode(nameCodes[row]), movieDTO.getName())
+                && Objects.equals(casts.decode(castCodes[row]), movieDTO.getCast());
+    }
+
+    /**
+     * Materializes the row as a standalone {@link MovieDTO}.
+     */
+    public MovieDTO get(int row) {
+        return MovieDTO.builder()
+                .movieId(movieId(row))
+                .name(name(row))
+                .cast(cast(row))
+                .releaseDate(releaseDate(row))
+                .year(year(row))
+                .build();
+    }
+
+    /**
+     * Returns a read-only flyweight positioned on the row. The same view can be moved with {@link MovieDTOView#at(int)}
+     * instead of allocating a {@link MovieDTO} per row.
+     */
+    public MovieDTOView view(int row) {
+        return new MovieDTOView(this, checkRow(row));
+    }
+
+    /**
+     * Visits every row through a single flyweight; callers must not keep a reference to it past the callback.
+     */
+    public void forEach(Consumer<? super MovieDTO> action) {
+        if (size == 0) {
+            return;
+        }
+
+        MovieDTOView view = new MovieDTOView(this, 0);
+        for (int row = 0; row < size; row++) {
+            action.accept(view.at(row));
+        }
+    }
+
+    public void trimToSize() {
+        resize(Math.max(1, size));
+    }
+
+    int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for catalog of size " + size);
+        }
+
+        return row;
+    }
+
+    private void write(int row, MovieDTO movieDTO) {
+        modifications++;
+        long movieId = movieDTO.getMovieId() == null ? NO_ID : movieDTO.getMovieId();
+        movieIds[row] = movieId;
+        years[row] = encodeYear(movieDTO.getYear());
+        releaseDates[row] = encodeDate(movieDTO.getReleaseDate());
+        nameCodes[row] = names.encode(movieDTO.getName());
+        castCodes[row] = casts.encode(movieDTO.getCast());
+
+        if (movieId != NO_ID) {
+            rowsById.put(movieId, row);
+        }
+    }
+
+    private static int encodeDate(LocalDate releaseDate) {
+        return releaseDate == null ? NO_DATE : Math.toIntExact(releaseDate.toEpochDay());
+    }
+
+    private static short encodeYear(Integer year) {
+        if (year == null) {
+            return NO_YEAR;
+        }
+
+        if (year <= NO_YEAR || year > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Year " + year + " does not fit the catalog year column");
+        }
+
+        return year.shortValue();
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > movieIds.length) {
+            resize(Math.max(minCapacity, movieIds.length + (movieIds.length >> 1)));
+        }
+    }
+
+    private void resize(int capacity) {
+        movieIds = Arrays.copyOf(movieIds, capacity);
+        years = Arrays.copyOf(years, capacity);
+        releaseDates = Arrays.copyOf(releaseDates, capacity);
+        nameCodes = Arrays.copyOf(nameCodes, capacity);
+        castCodes = Arrays.copyOf(castCodes, capacity);
+    }
+}
@@ -0,0 +1,87 @@
+package com.gianvittorio.javawiremock.catalog;
+
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Flyweight {@link MovieDTO} reading straight from the {@link MovieCatalog} columns of the row it is positioned on.
+ */
+public class MovieDTOView extends MovieDTO {
+    private final MovieCatalog catalog;
+
+    private int row;
+
+    MovieDTOView(MovieCatalog catalog, int row) {
+        this.catalog = catalog;
+        this.row = row;
+    }
+
+    public MovieDTOView at(int row) {
+        this.row = catalog.checkRow(row);
+
+        return this;
+    }
+
+    public int row() {
+        return row;
+    }
+
+    public MovieDTO copy() {
+        return catalog.get(row);
+    }
+
+    @Override
+    public Long getMovieId() {
+        return catalog.movieId(row);
+    }
+
+    @Override
+    public String getCast() {
+        return catalog.cast(row);
+    }
+
+    @Override
+    public String getName() {
+        return catalog.name(row);
+    }
+
+    @Override
+    public LocalDate getReleaseDate() {
+        return catalog.releaseDate(row);
+    }
+
+    @Override
+    public Integer getYear() {
+        return catalog.year(row);
+    }
+
+    @Override
+    public void setMovieId(Long movieId) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCast(String cast) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setReleaseDate(LocalDate releaseDate) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setYear(Integer year) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Catalog views are read-only, use MovieCatalog.put instead");
+    }
+}
@@ -0,0 +1,47 @@
+package com.gianvittorio.javawiremock.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class StringDictionary {
+    static final int NO_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        if (value == null) {
+            return NO_CODE;
+        }
+
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+
+        return code;
+    }
+
+    int codeOf(String value) {
+        if (value == null) {
+            return NO_CODE;
+        }
+
+        Integer code = codes.get(value);
+
+        return code == null ? NO_CODE : code;
+    }
+
+    String decode(int code) {
+        return code == NO_CODE ? null : values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,22 @@
+package com.gianvittorio.javawiremock.catalog.sync;
+
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CatalogChange {
+    public enum Type {
+        INSERTED, UPDATED, DELETED
+    }
+
+    private Type type;
+
+    private Long movieId;
+
+    /**
+     * The new state of the movie, or the removed one for {@link Type#DELETED}.
+     */
+    private MovieDTO movie;
+}
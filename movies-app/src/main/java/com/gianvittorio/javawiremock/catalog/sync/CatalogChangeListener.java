@@ -0,0 +1,7 @@
+package com.gianvittorio.javawiremock.catalog.sync;
+
+@FunctionalInterface
+public interface CatalogChangeListener {
+
+    void onChange(CatalogChange change);
+}
@@ -0,0 +1,93 @@
+package com.gianvittorio.javawiremock.catalog.sync;
+
+import com.gianvittorio.javawiremock.catalog.MovieCatalog;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.StreamingMoviesRestClient;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Brings a local {@link MovieCatalog} up to date with the movies service.
+ * <p>
+ * The upstream catalog is streamed movie by movie and matched against the local rows by id and content, so only
+ * inserts and updates are written and only a bit per local row is kept to find the deletes once the stream completes.
+ * Deletes are skipped when the stream fails half way, since an incomplete catalog cannot tell what is gone.
+ */
+@Slf4j
+public class CatalogSyncEngine {
+    private final StreamingMoviesRestClient moviesRestClient;
+
+    private final MovieCatalog catalog;
+
+    private final List<CatalogChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public CatalogSyncEngine(StreamingMoviesRestClient moviesRestClient, MovieCatalog catalog) {
+        this.moviesRestClient = moviesRestClient;
+        this.catalog = catalog;
+    }
+
+    public void addListener(CatalogChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(CatalogChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized SyncSummary sync() {
+        SyncSummary summary = new SyncSummary(0, 0, 0, 0);
+        BitSet seen = new BitSet(catalog.size());
+
+        moviesRestClient.streamAllMovies()
+                .doOnNext(movieDTO -> apply(movieDTO, seen, summary))
+                .then()
+                .block();
+
+        for (int row = catalog.size() - 1; row >= 0; row--) {
+            if (!seen.get(row)) {
+                MovieDTO removed = catalog.get(row);
+                catalog.removeRow(row);
+                summary.setDeleted(summary.getDeleted() + 1);
+                publish(new CatalogChange(CatalogChange.Type.DELETED, removed.getMovieId(), removed));
+            }
+        }
+
+        log.info("Catalog synchronized: {}", summary);
+
+        return summary;
+    }
+
+    private void apply(MovieDTO movieDTO, BitSet seen, SyncSummary summary) {
+        if (movieDTO.getMovieId() == null) {
+            throw new MovieErrorResponse(new IllegalArgumentException("Upstream movie without movie_id: " + movieDTO));
+        }
+
+        int row = catalog.rowOf(movieDTO.getMovieId());
+        if (row == MovieCatalog.NO_ROW) {
+            seen.set(catalog.put(movieDTO));
+            summary.setInserted(summary.getInserted() + 1);
+            publish(new CatalogChange(CatalogChange.Type.INSERTED, movieDTO.getMovieId(), movieDTO));
+        } else if (!catalog.contentEquals(row, movieDTO)) {
+            seen.set(catalog.put(movieDTO));
+            summary.setUpdated(summary.getUpdated() + 1);
+            publish(new CatalogChange(CatalogChange.Type.UPDATED, movieDTO.getMovieId(), movieDTO));
+        } else {
+            seen.set(row);
+            summary.setUnchanged(summary.getUnchanged() + 1);
+        }
+    }
+
+    private void publish(CatalogChange change) {
+        for (CatalogChangeListener listener : listeners) {
+            try {
+                listener.onChange(change);
+            } catch (Exception ex) {
+                log.error("Exception in catalog change listener and the message is {}", ex);
+            }
+        }
+    }
+}
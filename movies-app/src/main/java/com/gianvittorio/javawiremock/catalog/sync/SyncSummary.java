@@ -0,0 +1,16 @@
+package com.gianvittorio.javawiremock.catalog.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SyncSummary {
+    private int inserted;
+
+    private int updated;
+
+    private int deleted;
+
+    private int unchanged;
+}
@@ -0,0 +1,13 @@
+package com.gianvittorio.javawiremock.config;
+
+public enum ClientBackend {
+    /**
+     * Spring {@code WebClient} over reactor-netty, needed for the streaming and non-blocking APIs.
+     */
+    REACTOR_NETTY,
+
+    /**
+     * {@code java.net.http.HttpClient}, blocking calls only, without the WebFlux stack.
+     */
+    JDK
+}
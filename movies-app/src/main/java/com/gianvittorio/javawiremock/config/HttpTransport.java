@@ -0,0 +1,18 @@
+package com.gianvittorio.javawiremock.config;
+
+public enum HttpTransport {
+    /**
+     * One request per pooled connection at a time.
+     */
+    HTTP_1_1,
+
+    /**
+     * HTTP/2 over cleartext, multiplexing requests as streams over a few connections.
+     */
+    H2C,
+
+    /**
+     * HTTP/2 over TLS, negotiated through ALPN with fallback to HTTP/1.1.
+     */
+    H2
+}
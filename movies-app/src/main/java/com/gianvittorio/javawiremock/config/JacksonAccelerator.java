@@ -0,0 +1,18 @@
+package com.gianvittorio.javawiremock.config;
+
+/**
+ * Optional Jackson module replacing reflective property access with generated accessors.
+ */
+public enum JacksonAccelerator {
+    NONE,
+
+    /**
+     * Bytecode generation, for Java 8 runtimes.
+     */
+    AFTERBURNER,
+
+    /**
+     * {@code LambdaMetafactory} based, the successor of Afterburner on Java 11 and later.
+     */
+    BLACKBIRD
+}
@@ -0,0 +1,124 @@
+package com.gianvittorio.javawiremock.config;
+
+import com.gianvittorio.javawiremock.jfr.ClientEvents;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.JdkHttpMoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the reactor-netty {@link HttpClient}, {@link WebClient} and {@link MoviesRestClientImpl} for a set of
+ * {@link MoviesClientOptions}. Callers that stay off the WebFlux classpath should use
+ * {@link JdkHttpMoviesRestClient#create(MoviesClientOptions)} directly.
+ */
+public final class MoviesClientFactory {
+
+    private MoviesClientFactory() {
+    }
+
+    public static MoviesRestClient moviesRestClient(MoviesClientOptions options) {
+        if (options.getBackend() == ClientBackend.JDK) {
+            return JdkHttpMoviesRestClient.create(options);
+        }
+
+        return new MoviesRestClientImpl(webClient(options), options.getWireFormats(), options.getMetrics(), options.getTracing());
+    }
+
+    public static WebClient webClient(MoviesClientOptions options) {
+        WebClient.Builder builder = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(options)))
+                .exchangeStrategies(exchangeStrategies(options))
+                .baseUrl(options.getBaseUrl())
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+
+        if (options.getTracing() != null) {
+            builder.filter(options.getTracing().filter());
+        }
+
+        return builder.build();
+    }
+
+    public static ExchangeStrategies exchangeStrategies(MoviesClientOptions options) {
+        ObjectMapper objectMapper = MoviesObjectMapper.of(options.getJacksonAccelerator());
+
+        Jackson2JsonDecoder jsonDecoder = new Jackson2JsonDecoder(objectMapper);
+        jsonDecoder.setMaxInMemorySize(options.getMaxInMemorySize());
+
+        return ExchangeStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonDecoder(ClientEvents.decoder(jsonDecoder));
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().maxInMemorySize(options.getMaxInMemorySize());
+
+                    if (options.getWireFormats().contains(WireFormat.SMILE)) {
+                        ObjectMapper smileMapper = MoviesObjectMapper.create(WireFormat.SMILE, options.getJacksonAccelerator());
+                        // the recording wrapper hides the decoder from the configurer, so it gets no default size limit
+                        Jackson2SmileDecoder smileDecoder = new Jackson2SmileDecoder(smileMapper);
+                        smileDecoder.setMaxInMemorySize(options.getMaxInMemorySize());
+                        configurer.defaultCodecs().jackson2SmileDecoder(ClientEvents.decoder(smileDecoder));
+                        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+                    }
+
+                    if (options.getWireFormats().contains(WireFormat.CBOR)) {
+                        ObjectMapper cborMapper = MoviesObjectMapper.create(WireFormat.CBOR, options.getJacksonAccelerator());
+                        Jackson2CborDecoder cborDecoder = new Jackson2CborDecoder(cborMapper);
+                        cborDecoder.setMaxInMemorySize(options.getMaxInMemorySize());
+                        configurer.customCodecs().register(ClientEvents.decoder(cborDecoder));
+                        configurer.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+                    }
+                })
+                .build();
+    }
+
+    public static HttpClient httpClient(MoviesClientOptions options) {
+        HttpClient httpClient = ClientEvents.instrument(transport(options));
+
+        return options.getMetrics() == null ? httpClient : options.getMetrics().instrument(httpClient);
+    }
+
+    private static HttpClient transport(MoviesClientOptions options) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("movies-client")
+                .maxConnections(options.getMaxConnections())
+                .pendingAcquireTimeout(options.getPendingAcquireTimeout())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) options.getConnectTimeout().toMillis());
+
+        switch (options.getTransport()) {
+            case H2C:
+                return http2(httpClient.protocol(HttpProtocol.H2C), options);
+            case H2:
+                return http2(httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure(), options);
+            default:
+                // idle timeouts per connection are fine while a connection serves a single exchange
+                return httpClient.doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(options.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(options.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+        }
+    }
+
+    private static HttpClient http2(HttpClient httpClient, MoviesClientOptions options) {
+        // a multiplexed connection is shared by many exchanges, so time out each response instead of the connection
+        return httpClient.responseTimeout(options.getReadTimeout());
+    }
+}
@@ -0,0 +1,70 @@
+package com.gianvittorio.javawiremock.config;
+
+import com.gianvittorio.javawiremock.metrics.ClientMetrics;
+import com.gianvittorio.javawiremock.tracing.ClientTracing;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+@Data
+@Builder
+public class MoviesClientOptions {
+    private String baseUrl;
+
+    @Builder.Default
+    private ClientBackend backend = ClientBackend.REACTOR_NETTY;
+
+    @Builder.Default
+    private HttpTransport transport = HttpTransport.HTTP_1_1;
+
+    /**
+     * Upper bound of pooled connections. With HTTP/2 each connection carries many concurrent streams, so a handful is
+     * usually enough. The client does not cap the streams of one connection, the server's
+     * SETTINGS_MAX_CONCURRENT_STREAMS does; a client-side SETTINGS value would only limit the streams the server opens
+     * toward the client, and reactor-netty 1.0 has no per-connection stream limit for the pool.
+     */
+    @Builder.Default
+    private int maxConnections = 500;
+
+    @Builder.Default
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+    @Builder.Default
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private Duration writeTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Largest response body aggregated in memory when decoding, Spring's 256KB default is too small for the catalog.
+     */
+    @Builder.Default
+    private int maxInMemorySize = 16 * 1024 * 1024;
+
+    @Builder.Default
+    private JacksonAccelerator jacksonAccelerator = JacksonAccelerator.NONE;
+
+    /**
+     * Formats offered in the Accept header, most preferred first. JSON is always accepted as the last resort.
+     */
+    @Builder.Default
+    private List<WireFormat> wireFormats = Collections.singletonList(WireFormat.JSON);
+
+    /**
+     * Per-operation latency histograms and slow-call log, calls are not measured when {@code null}. Only the
+     * reactor-netty backend reports them.
+     */
+    private ClientMetrics metrics;
+
+    /**
+     * OpenTelemetry spans per operation and trace context propagation, off when {@code null}. Only the reactor-netty
+     * backend is traced.
+     */
+    private ClientTracing tracing;
+}
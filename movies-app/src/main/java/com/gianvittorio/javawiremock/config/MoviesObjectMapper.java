@@ -0,0 +1,118 @@
+package com.gianvittorio.javawiremock.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.gianvittorio.javawiremock.web.dto.MovieDTODeserializer;
+
+/**
+ * The {@link ObjectMapper} of the movies client. Modules are registered explicitly instead of being discovered from
+ * the classpath, and mappers are meant to be built once and shared, since each one keeps its own serializer and
+ * deserializer caches.
+ * <p>
+ * The {@link JacksonAccelerator} modules are optional dependencies, they are loaded by name so the mapper works without
+ * them on the classpath as long as {@link JacksonAccelerator#NONE} is used.
+ */
+public final class MoviesObjectMapper {
+
+    private static final ObjectMapper SHARED = create(JacksonAccelerator.NONE);
+
+    private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private MoviesObjectMapper() {
+    }
+
+    public static ObjectMapper shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return - the shared mapper for {@link JacksonAccelerator#NONE}, a new one otherwise
+     */
+    public static ObjectMapper of(JacksonAccelerator accelerator) {
+        return accelerator == JacksonAccelerator.NONE ? SHARED : create(accelerator);
+    }
+
+    public static ObjectMapper create(JacksonAccelerator accelerator) {
+        return create(WireFormat.JSON, accelerator);
+    }
+
+    /**
+     * @return - a mapper with the same configuration for the binary {@link WireFormat}s
+     */
+    public static ObjectMapper create(WireFormat wireFormat, JacksonAccelerator accelerator) {
+        switch (wireFormat) {
+            case SMILE:
+                return configure(SmileMapper.builder(), accelerator)
+                        .addModule(moviesModule())
+                        .build();
+            case CBOR:
+                return configure(CBORMapper.builder(), accelerator)
+                        .addModule(moviesModule())
+                        .build();
+            default:
+                return databind(accelerator)
+                        .addModule(moviesModule())
+                        .build();
+        }
+    }
+
+    /**
+     * @return - the same configuration with plain databind for {@link MovieDTO}, as a baseline for
+     * {@link MovieDTODeserializer}
+     */
+    public static JsonMapper.Builder databind(JacksonAccelerator accelerator) {
+        return configure(JsonMapper.builder(), accelerator);
+    }
+
+    private static SimpleModule moviesModule() {
+        return new SimpleModule("movies")
+                .addDeserializer(MovieDTO.class, new MovieDTODeserializer());
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> B configure(B builder, JacksonAccelerator accelerator) {
+        builder.addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+
+        switch (accelerator) {
+            case AFTERBURNER:
+                builder.addModule(optionalModule(accelerator, AFTERBURNER_MODULE, "jackson-module-afterburner"));
+                break;
+            case BLACKBIRD:
+                builder.addModule(optionalModule(accelerator, BLACKBIRD_MODULE, "jackson-module-blackbird"));
+                break;
+            default:
+                break;
+        }
+
+        return builder;
+    }
+
+    private static Module optionalModule(JacksonAccelerator accelerator, String className, String artifactId) {
+        try {
+            return (Module) Class.forName(className, true, MoviesObjectMapper.class.getClassLoader())
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalStateException(accelerator + " needs com.fasterxml.jackson.module:" + artifactId
+                    + " on the classpath", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + className, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.gianvittorio.javawiremock.config;
+
+/**
+ * Body encodings the client can negotiate with the movies service, in the order they are offered.
+ */
+public enum WireFormat {
+    JSON("application/json", true),
+
+    SMILE("application/x-jackson-smile", true),
+
+    /**
+     * Spring only decodes CBOR as a whole, so collections are aggregated before the first movie is emitted.
+     */
+    CBOR("application/cbor", false);
+
+    private final String mediaType;
+
+    private final boolean streamable;
+
+    WireFormat(String mediaType, boolean streamable) {
+        this.mediaType = mediaType;
+        this.streamable = streamable;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public boolean isStreamable() {
+        return streamable;
+    }
+}
@@ -1,10 +1,12 @@
 package com.gianvittorio.javawiremock.exception;
 
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-
+/**
+ * Error surfaced by every {@code MoviesRestClient} backend. Kept free of transport types so the JDK backend works
+ * without WebFlux on the classpath; the cause carries the backend specific exception.
+ */
 public class MovieErrorResponse extends RuntimeException {
-    public MovieErrorResponse(String statusText, WebClientResponseException e) {
-        super(statusText, e);
+    public MovieErrorResponse(String statusText, Throwable cause) {
+        super(statusText, cause);
     }
 
     public MovieErrorResponse(Exception e) {
@@ -0,0 +1,21 @@
+package com.gianvittorio.javawiremock.exception;
+
+public class MovieHttpStatusException extends RuntimeException {
+    private final int statusCode;
+
+    private final String responseBody;
+
+    public MovieHttpStatusException(int statusCode, String responseBody) {
+        super(statusCode + " " + responseBody);
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+}
@@ -0,0 +1,118 @@
+package com.gianvittorio.javawiremock.jfr;
+
+import org.springframework.core.codec.Decoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.context.ContextView;
+
+/**
+ * Flight Recorder events of the movies client. {@link #record} times an operation as a {@link MovieClientCallEvent}
+ * kept in the Reactor context, where the hooks added by {@link #instrument(HttpClient)} and the {@link #decoder}
+ * wrapper attribute pool acquires, the response status and decoded bytes to it.
+ * <p>
+ * Events are enabled by default and carry no stack trace. While no recording has them enabled an operation costs one
+ * event allocation and an {@link jdk.jfr.Event#isEnabled()} check.
+ */
+public final class ClientEvents {
+
+    private ClientEvents() {
+    }
+
+    public static <T> Mono<T> record(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            MovieClientCallEvent event = new MovieClientCallEvent();
+            if (!event.isEnabled()) {
+                return call;
+            }
+
+            event.operation = operation;
+            event.begin();
+
+            return call
+                    .doOnSuccess(value -> completed(event, "success"))
+                    .doOnError(error -> completed(event, "error"))
+                    .doOnCancel(() -> completed(event, "cancelled"))
+                    .contextWrite(context -> context.put(MovieClientCallEvent.class, event));
+        });
+    }
+
+    public static <T> Flux<T> record(String operation, Flux<T> call) {
+        return Flux.defer(() -> {
+            MovieClientCallEvent event = new MovieClientCallEvent();
+            if (!event.isEnabled()) {
+                return call;
+            }
+
+            event.operation = operation;
+            event.begin();
+
+            return call
+                    .doOnComplete(() -> completed(event, "success"))
+                    .doOnError(error -> completed(event, "error"))
+                    .doOnCancel(() -> completed(event, "cancelled"))
+                    .contextWrite(context -> context.put(MovieClientCallEvent.class, event));
+        });
+    }
+
+    /**
+     * Adds {@link PoolAcquireEvent}s and the response status to calls made through {@link #record}.
+     */
+    public static HttpClient instrument(HttpClient httpClient) {
+        return httpClient
+                .mapConnect(connect -> Mono.deferContextual(context -> {
+                    MovieClientCallEvent call = call(context);
+                    PoolAcquireEvent event = new PoolAcquireEvent();
+                    if (call == null || !event.isEnabled()) {
+                        return connect;
+                    }
+
+                    event.operation = call.operation;
+                    event.begin();
+
+                    return connect
+                            .doOnNext(connection -> acquired(event, "success"))
+                            .doOnError(error -> acquired(event, "error"))
+                            .doOnCancel(() -> acquired(event, "cancelled"));
+                }))
+                .doOnResponse((response, connection) -> {
+                    MovieClientCallEvent call = call(response.currentContextView());
+                    if (call != null) {
+                        call.status = response.status().code();
+                    }
+                });
+    }
+
+    /**
+     * Wraps a body decoder with {@link MovieDecodeEvent}s.
+     */
+    public static <T> Decoder<T> decoder(Decoder<T> decoder) {
+        return new RecordingDecoder<>(decoder);
+    }
+
+    static MovieClientCallEvent call(ContextView context) {
+        return context.getOrDefault(MovieClientCallEvent.class, null);
+    }
+
+    private static void completed(MovieClientCallEvent event, String outcome) {
+        synchronized (event) {
+            if (event.outcome != null) {
+                return;
+            }
+            event.outcome = outcome;
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+    private static void acquired(PoolAcquireEvent event, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
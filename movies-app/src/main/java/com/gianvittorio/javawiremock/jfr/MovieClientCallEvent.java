@@ -0,0 +1,36 @@
+package com.gianvittorio.javawiremock.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One operation of the movies client, from the call until its response is decoded.
+ */
+@Name(MovieClientCallEvent.NAME)
+@Label("Movie Client Call")
+@Category({"Movies Client"})
+@Description("One operation of the movies client, from the call until its response is decoded")
+@StackTrace(false)
+public class MovieClientCallEvent extends Event {
+    public static final String NAME = "com.gianvittorio.javawiremock.MovieClientCall";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Status")
+    @Description("HTTP status of the last response, -1 when none arrived")
+    int status = -1;
+
+    @Label("Bytes")
+    @Description("Response body bytes decoded")
+    @DataAmount
+    long bytes;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,37 @@
+package com.gianvittorio.javawiremock.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Decoding of one response body. An aggregated body is timed from its last buffer to the decoded value; a streamed
+ * body from its first buffer to the last element, which includes waiting for the rest of the body.
+ */
+@Name(MovieDecodeEvent.NAME)
+@Label("Movie Decode")
+@Category({"Movies Client"})
+@Description("Decoding of one movies service response body")
+@StackTrace(false)
+public class MovieDecodeEvent extends Event {
+    public static final String NAME = "com.gianvittorio.javawiremock.MovieDecode";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Streamed")
+    boolean streamed;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Outcome")
+    String outcome;
+
+    transient boolean begun;
+}
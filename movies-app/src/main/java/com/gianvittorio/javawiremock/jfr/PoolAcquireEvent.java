@@ -0,0 +1,29 @@
+package com.gianvittorio.javawiremock.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Wait for a connection of the movies client pool, including opening a new one. Taking an idle pooled connection
+ * takes microseconds, so only waits over the threshold are recorded by default.
+ */
+@Name(PoolAcquireEvent.NAME)
+@Label("Movie Client Pool Acquire")
+@Category({"Movies Client"})
+@Description("Wait for a pooled connection to the movies service")
+@StackTrace(false)
+@Threshold("1 ms")
+public class PoolAcquireEvent extends Event {
+    public static final String NAME = "com.gianvittorio.javawiremock.PoolAcquire";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,113 @@
+package com.gianvittorio.javawiremock.jfr;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emits a {@link MovieDecodeEvent} per body decoded by the delegate within a {@link ClientEvents#record recorded}
+ * operation.
+ */
+class RecordingDecoder<T> implements Decoder<T> {
+    private final Decoder<T> delegate;
+
+    RecordingDecoder(Decoder<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return delegate.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<T> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.deferContextual(context -> {
+            MovieDecodeEvent event = event(context, true);
+            if (event == null) {
+                return delegate.decode(input, elementType, mimeType, hints);
+            }
+
+            Flux<DataBuffer> counted = Flux.from(input)
+                    .doOnNext(buffer -> {
+                        if (!event.begun) {
+                            event.begun = true;
+                            event.begin();
+                        }
+                        event.bytes += buffer.readableByteCount();
+                    });
+
+            return delegate.decode(counted, elementType, mimeType, hints)
+                    .doOnComplete(() -> decoded(event, context, "success"))
+                    .doOnError(error -> decoded(event, context, "error"));
+        });
+    }
+
+    @Override
+    public Mono<T> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Mono.deferContextual(context -> {
+            MovieDecodeEvent event = event(context, false);
+            if (event == null) {
+                return delegate.decodeToMono(input, elementType, mimeType, hints);
+            }
+
+            // the delegate aggregates the body before decoding it, so the decode starts with the last buffer
+            Flux<DataBuffer> counted = Flux.from(input)
+                    .doOnNext(buffer -> event.bytes += buffer.readableByteCount())
+                    .doOnComplete(() -> {
+                        event.begun = true;
+                        event.begin();
+                    });
+
+            return delegate.decodeToMono(counted, elementType, mimeType, hints)
+                    .doOnSuccess(value -> decoded(event, context, "success"))
+                    .doOnError(error -> decoded(event, context, "error"));
+        });
+    }
+
+    @Override
+    public T decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) throws DecodingException {
+        return delegate.decode(buffer, targetType, mimeType, hints);
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return delegate.getDecodableMimeTypes();
+    }
+
+    private static MovieDecodeEvent event(ContextView context, boolean streamed) {
+        MovieClientCallEvent call = ClientEvents.call(context);
+        MovieDecodeEvent event = new MovieDecodeEvent();
+        if (call == null || !event.isEnabled()) {
+            return null;
+        }
+
+        event.operation = call.operation;
+        event.streamed = streamed;
+        return event;
+    }
+
+    private static void decoded(MovieDecodeEvent event, ContextView context, String outcome) {
+        if (!event.begun) {
+            event.begin();
+        }
+        event.end();
+
+        MovieClientCallEvent call = ClientEvents.call(context);
+        call.bytes += event.bytes;
+
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
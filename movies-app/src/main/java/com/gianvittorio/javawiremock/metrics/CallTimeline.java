@@ -0,0 +1,146 @@
+package com.gianvittorio.javawiremock.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Phase timestamps ({@link System#nanoTime()}) of one client call. It travels in the Reactor context under
+ * {@code CallTimeline.class}, where the reactor-netty hooks installed by {@link ClientMetrics#instrument} find it.
+ * Phases that were not observed, such as connect on a pooled connection, report {@code -1}.
+ */
+public class CallTimeline {
+    private static final long UNSET = -1;
+
+    private final String operation;
+
+    private final long startedAt = System.nanoTime();
+
+    private volatile long acquireStartedAt = UNSET;
+
+    private volatile long connectedAt = UNSET;
+
+    private volatile long acquiredAt = UNSET;
+
+    private volatile long requestStartedAt = UNSET;
+
+    private volatile long requestSentAt = UNSET;
+
+    private volatile long firstByteAt = UNSET;
+
+    private volatile long endedAt = UNSET;
+
+    private volatile int status = (int) UNSET;
+
+    private volatile String outcome;
+
+    CallTimeline(String operation) {
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public long getTotalNanos() {
+        return between(startedAt, endedAt);
+    }
+
+    /**
+     * @return time waiting for a pooled connection, not counting opening a new one
+     */
+    public long getPoolAcquireNanos() {
+        long acquire = between(acquireStartedAt, acquiredAt);
+
+        return acquire == UNSET ? UNSET : acquire - Math.max(0, getConnectNanos());
+    }
+
+    /**
+     * @return time opening a new connection, {@code -1} when a pooled one was reused
+     */
+    public long getConnectNanos() {
+        return connectedAt >= acquireStartedAt ? between(acquireStartedAt, connectedAt) : UNSET;
+    }
+
+    public long getRequestWriteNanos() {
+        return between(requestStartedAt, requestSentAt);
+    }
+
+    public long getTimeToFirstByteNanos() {
+        return between(requestSentAt, firstByteAt);
+    }
+
+    /**
+     * @return time from the response headers until the body was read and decoded
+     */
+    public long getBodyDecodeNanos() {
+        return between(firstByteAt, endedAt);
+    }
+
+    void acquireStarted() {
+        acquireStartedAt = System.nanoTime();
+    }
+
+    /**
+     * @param connectedAt when the acquired connection was opened, {@code null} if unknown
+     */
+    void acquired(Long connectedAt) {
+        acquiredAt = System.nanoTime();
+        if (connectedAt != null) {
+            this.connectedAt = connectedAt;
+        }
+    }
+
+    void requestStarted() {
+        requestStartedAt = System.nanoTime();
+    }
+
+    void requestSent() {
+        requestSentAt = System.nanoTime();
+    }
+
+    void firstByte(int status) {
+        firstByteAt = System.nanoTime();
+        this.status = status;
+    }
+
+    /**
+     * @return {@code false} when the call had already ended, e.g. a cancel following completion
+     */
+    synchronized boolean ended(String outcome) {
+        if (endedAt != UNSET) {
+            return false;
+        }
+
+        endedAt = System.nanoTime();
+        this.outcome = outcome;
+        return true;
+    }
+
+    private static long between(long from, long to) {
+        return from == UNSET || to == UNSET || to < from ? UNSET : to - from;
+    }
+
+    @Override
+    public String toString() {
+        return "operation=" + operation
+                + " outcome=" + outcome
+                + " status=" + status
+                + " totalMs=" + millis(getTotalNanos())
+                + " poolAcquireMs=" + millis(getPoolAcquireNanos())
+                + " connectMs=" + millis(getConnectNanos())
+                + " requestWriteMs=" + millis(getRequestWriteNanos())
+                + " timeToFirstByteMs=" + millis(getTimeToFirstByteNanos())
+                + " bodyDecodeMs=" + millis(getBodyDecodeNanos());
+    }
+
+    private static String millis(long nanos) {
+        return nanos == UNSET ? "-" : String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,143 @@
+package com.gianvittorio.javawiremock.metrics;
+
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Latency of the movies client per operation, recorded into HdrHistogram {@link Recorder}s, which take values from
+ * many threads without locking. {@link #intervalSnapshot()} hands out what was recorded since the previous snapshot.
+ * <p>
+ * Calls slower than the slow-call threshold are passed on with their {@link CallTimeline}, by default to a warning
+ * log line breaking the time down into pool acquire, connect, request write, time to first byte and body decode. The
+ * phases are captured by the hooks {@link #instrument(HttpClient)} adds to the reactor-netty client.
+ */
+@Slf4j
+public class ClientMetrics {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final AttributeKey<Long> CONNECTED_AT = AttributeKey.valueOf(ClientMetrics.class.getName() + ".connectedAt");
+
+    private final ConcurrentMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    private final long slowCallThresholdNanos;
+
+    private final Consumer<CallTimeline> slowCallListener;
+
+    public ClientMetrics(Duration slowCallThreshold) {
+        this(slowCallThreshold, timeline -> log.warn("Slow movies service call: {}", timeline));
+    }
+
+    public ClientMetrics(Duration slowCallThreshold, Consumer<CallTimeline> slowCallListener) {
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.slowCallListener = slowCallListener;
+    }
+
+    /**
+     * Histograms of the calls completed since the previous snapshot, by operation, in nanoseconds.
+     */
+    public synchronized Map<String, Histogram> intervalSnapshot() {
+        Map<String, Histogram> snapshot = new TreeMap<>();
+        recorders.forEach((operation, recorder) -> snapshot.put(operation, recorder.getIntervalHistogram()));
+
+        return snapshot;
+    }
+
+    public <T> Mono<T> observe(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            CallTimeline timeline = new CallTimeline(operation);
+
+            return call
+                    .doOnSuccess(value -> completed(timeline, "success"))
+                    .doOnError(error -> completed(timeline, "error"))
+                    .doOnCancel(() -> completed(timeline, "cancelled"))
+                    .contextWrite(context -> context.put(CallTimeline.class, timeline));
+        });
+    }
+
+    public <T> Flux<T> observe(String operation, Flux<T> call) {
+        return Flux.defer(() -> {
+            CallTimeline timeline = new CallTimeline(operation);
+
+            return call
+                    .doOnComplete(() -> completed(timeline, "success"))
+                    .doOnError(error -> completed(timeline, "error"))
+                    .doOnCancel(() -> completed(timeline, "cancelled"))
+                    .contextWrite(context -> context.put(CallTimeline.class, timeline));
+        });
+    }
+
+    /**
+     * Adds the hooks filling in the {@link CallTimeline} of calls made through {@link #observe}.
+     */
+    public HttpClient instrument(HttpClient httpClient) {
+        return httpClient
+                .observe((connection, state) -> {
+                    if (state == ConnectionObserver.State.CONNECTED) {
+                        connection.channel().attr(CONNECTED_AT).set(System.nanoTime());
+                    }
+                })
+                .mapConnect(connect -> Mono.deferContextual(context -> {
+                    CallTimeline timeline = timeline(context);
+                    if (timeline == null) {
+                        return connect;
+                    }
+
+                    timeline.acquireStarted();
+                    return connect.doOnNext(connection -> timeline.acquired(connection.channel().attr(CONNECTED_AT).get()));
+                }))
+                .doOnRequest((request, connection) -> {
+                    CallTimeline timeline = timeline(request.currentContextView());
+                    if (timeline != null) {
+                        timeline.requestStarted();
+                    }
+                })
+                .doAfterRequest((request, connection) -> {
+                    CallTimeline timeline = timeline(request.currentContextView());
+                    if (timeline != null) {
+                        timeline.requestSent();
+                    }
+                })
+                .doOnResponse((response, connection) -> {
+                    CallTimeline timeline = timeline(response.currentContextView());
+                    if (timeline != null) {
+                        timeline.firstByte(response.status().code());
+                    }
+                });
+    }
+
+    // runs before the terminal signal reaches the caller, so a blocked caller sees its own call recorded
+    private void completed(CallTimeline timeline, String outcome) {
+        if (!timeline.ended(outcome)) {
+            return;
+        }
+
+        long nanos = timeline.getTotalNanos();
+        recorders.computeIfAbsent(timeline.getOperation(), operation -> new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                .recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+
+        if (nanos >= slowCallThresholdNanos) {
+            slowCallListener.accept(timeline);
+        }
+    }
+
+    private static CallTimeline timeline(ContextView context) {
+        return context.getOrDefault(CallTimeline.class, null);
+    }
+}
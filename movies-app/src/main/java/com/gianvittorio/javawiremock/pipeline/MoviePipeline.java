@@ -0,0 +1,172 @@
+package com.gianvittorio.javawiremock.pipeline;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs per-movie processing stages over a streamed catalog, such as
+ * {@link com.gianvittorio.javawiremock.service.StreamingMoviesRestClient#streamAllMovies()}.
+ * <p>
+ * Each stage runs on {@code parallelism} workers of the scheduler and requests at most {@code prefetch} items ahead,
+ * so a slow stage stops demand from reaching the source and the HTTP read is throttled instead of the response being
+ * buffered. Output keeps the source order when {@code ordered} is set. Every stage reports its {@link StageMetrics}.
+ * <p>
+ * Each stage derives a new pipeline with its own copy of the settings, so tuning a derived pipeline never changes the
+ * one it came from. Stages must not return {@code null}, the pipeline fails with a {@link NullPointerException}
+ * naming the stage in both ordered and unordered mode.
+ *
+ * <pre>
+ * MoviePipeline.from(moviesRestClient.streamAllMovies())
+ *         .parallelism(8)
+ *         .stage("enrich", this::enrich)
+ *         .batchStage("store", 100, this::storeAll)
+ *         .flux()
+ * </pre>
+ */
+public class MoviePipeline<T> {
+    private final Flux<T> flux;
+
+    private final Settings settings;
+
+    private final List<StageMetrics> metrics;
+
+    private MoviePipeline(Flux<T> flux, Settings settings, List<StageMetrics> metrics) {
+        this.flux = flux;
+        this.settings = settings;
+        this.metrics = metrics;
+    }
+
+    public static <T> MoviePipeline<T> from(Flux<T> source) {
+        return new MoviePipeline<>(source, new Settings(), new ArrayList<>());
+    }
+
+    /**
+     * Workers per stage, defaults to the number of available processors.
+     */
+    public MoviePipeline<T> parallelism(int parallelism) {
+        settings.parallelism = parallelism;
+
+        return this;
+    }
+
+    /**
+     * Items a stage requests ahead of its workers, bounding what is buffered between stages.
+     */
+    public MoviePipeline<T> prefetch(int prefetch) {
+        settings.prefetch = prefetch;
+
+        return this;
+    }
+
+    public MoviePipeline<T> ordered(boolean ordered) {
+        settings.ordered = ordered;
+
+        return this;
+    }
+
+    public MoviePipeline<T> runOn(Scheduler scheduler) {
+        settings.scheduler = scheduler;
+
+        return this;
+    }
+
+    public <R> MoviePipeline<R> stage(String name, Function<? super T, ? extends R> function) {
+        StageMetrics stageMetrics = new StageMetrics(name);
+
+        Function<T, R> timed = item -> {
+            long startedAt = stageMetrics.started();
+            R result = requireResult(name, function.apply(item));
+            stageMetrics.completed(startedAt, 1);
+            return result;
+        };
+
+        return derive(apply(flux.doOnNext(item -> stageMetrics.enqueued()), timed), stageMetrics);
+    }
+
+    /**
+     * Hands items to the function in lists of up to {@code batchSize}, e.g. to store or enrich them in bulk.
+     */
+    public <R> MoviePipeline<R> batchStage(String name, int batchSize, Function<? super List<T>, ? extends List<R>> function) {
+        StageMetrics stageMetrics = new StageMetrics(name);
+
+        Function<List<T>, List<R>> timed = batch -> {
+            long startedAt = stageMetrics.started();
+            List<R> result = requireResult(name, function.apply(batch));
+            for (R item : result) {
+                requireResult(name, item);
+            }
+            stageMetrics.completed(startedAt, batch.size());
+            return result;
+        };
+
+        Flux<List<T>> batches = flux.buffer(batchSize)
+                .doOnNext(batch -> stageMetrics.enqueued());
+
+        return derive(apply(batches, timed).flatMapIterable(Function.identity()), stageMetrics);
+    }
+
+    public Flux<T> flux() {
+        return flux;
+    }
+
+    public List<StageMetrics> metrics() {
+        return Collections.unmodifiableList(metrics);
+    }
+
+    private <R> MoviePipeline<R> derive(Flux<R> stageFlux, StageMetrics stageMetrics) {
+        List<StageMetrics> stageMetricsList = new ArrayList<>(metrics);
+        stageMetricsList.add(stageMetrics);
+
+        return new MoviePipeline<>(stageFlux, settings.copy(), stageMetricsList);
+    }
+
+    private static <R> R requireResult(String stage, R result) {
+        if (result == null) {
+            throw new NullPointerException("Stage '" + stage + "' returned null");
+        }
+
+        return result;
+    }
+
+    private <I, R> Flux<R> apply(Flux<I> input, Function<I, R> function) {
+        Settings stage = settings.copy();
+
+        if (stage.ordered) {
+            return input.flatMapSequential(
+                    item -> Mono.fromCallable(() -> function.apply(item)).subscribeOn(stage.scheduler),
+                    stage.parallelism,
+                    stage.prefetch);
+        }
+
+        return input.parallel(stage.parallelism, stage.prefetch)
+                .runOn(stage.scheduler, stage.prefetch)
+                .map(function)
+                .sequential(stage.prefetch);
+    }
+
+    private static class Settings {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private int prefetch = 32;
+
+        private boolean ordered = true;
+
+        private Scheduler scheduler = Schedulers.boundedElastic();
+
+        Settings copy() {
+            Settings copy = new Settings();
+            copy.parallelism = parallelism;
+            copy.prefetch = prefetch;
+            copy.ordered = ordered;
+            copy.scheduler = scheduler;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.gianvittorio.javawiremock.pipeline;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StageMetrics {
+    private final String name;
+
+    private final LongAdder processed = new LongAdder();
+
+    private final LongAdder busyNanos = new LongAdder();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicInteger maxQueued = new AtomicInteger();
+
+    private final AtomicLong firstItemAt = new AtomicLong();
+
+    private final AtomicLong lastItemAt = new AtomicLong();
+
+    StageMetrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    /**
+     * @return items handed to the stage and not yet picked up by a worker
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueued.get();
+    }
+
+    /**
+     * @return items per second between the first item entering the stage and the last one leaving it
+     */
+    public double getThroughput() {
+        long elapsed = lastItemAt.get() - firstItemAt.get();
+
+        return elapsed <= 0 ? 0 : getProcessed() * 1_000_000_000d / elapsed;
+    }
+
+    /**
+     * @return mean time a worker spent on one item, in nanoseconds
+     */
+    public double getMeanBusyNanos() {
+        long count = getProcessed();
+
+        return count == 0 ? 0 : (double) busyNanos.sum() / count;
+    }
+
+    void enqueued() {
+        firstItemAt.compareAndSet(0, System.nanoTime());
+        maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+    }
+
+    long started() {
+        queued.decrementAndGet();
+
+        return System.nanoTime();
+    }
+
+    void completed(long startedAt, int items) {
+        long now = System.nanoTime();
+        busyNanos.add(now - startedAt);
+        processed.add(items);
+        lastItemAt.set(now);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: processed=%d, throughput=%.1f/s, meanBusy=%.3fms, queueDepth=%d, maxQueueDepth=%d",
+                name, getProcessed(), getThroughput(), getMeanBusyNanos() / 1_000_000d, getQueueDepth(), getMaxQueueDepth());
+    }
+}
@@ -1,6 +1,7 @@
 package com.gianvittorio.javawiremock.service;
 
 import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.gianvittorio.javawiremock.web.dto.MoviePage;
 
 import java.util.List;
 
@@ -8,6 +9,10 @@ public interface MoviesRestClient {
 
     List<MovieDTO> retrieveAllMovies();
 
+    MoviePage retrieveMoviesPage(long offset, int limit);
+
+    MoviePage retrieveMoviesPage(String cursor, int limit);
+
     MovieDTO retrieveMovieById(Long id);
 
     List<MovieDTO> retrieveMoviesByName(String movieName);
@@ -0,0 +1,159 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.gianvittorio.javawiremock.web.dto.MoviePage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Iterates the whole catalog in fixed-size pages instead of a single {@code allMovies} request.
+ * <p>
+ * The following page is fetched in the background while the current one is consumed. A failed page is retried with
+ * exponential backoff; once the retries are exhausted the error is thrown from {@link #hasNext()}, and calling it again
+ * resumes from the failed page, since the position only ever advances past pages that were received.
+ */
+@Slf4j
+public class PagedMovieIterator implements Iterator<MovieDTO>, AutoCloseable {
+    private final MoviesRestClient moviesRestClient;
+
+    private final PagingOptions options;
+
+    private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "movies-page-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private List<MovieDTO> current = Collections.emptyList();
+
+    private int index;
+
+    private long offset;
+
+    private String cursor;
+
+    private boolean lastPage;
+
+    private CompletableFuture<MoviePage> nextPage;
+
+    public PagedMovieIterator(MoviesRestClient moviesRestClient, PagingOptions options) {
+        this(moviesRestClient, options, 0, null);
+    }
+
+    /**
+     * Starts from a position previously returned by {@link #offset()} or {@link #cursor()}.
+     */
+    public PagedMovieIterator(MoviesRestClient moviesRestClient, PagingOptions options, long offset, String cursor) {
+        this.moviesRestClient = moviesRestClient;
+        this.options = options;
+        this.offset = offset;
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index >= current.size()) {
+            if (lastPage) {
+                return false;
+            }
+            advance();
+        }
+
+        return true;
+    }
+
+    @Override
+    public MovieDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return current.get(index++);
+    }
+
+    /**
+     * @return offset of the page following the ones received so far
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * @return cursor of the page following the ones received so far
+     */
+    public String cursor() {
+        return cursor;
+    }
+
+    @Override
+    public void close() {
+        prefetcher.shutdownNow();
+    }
+
+    private void advance() {
+        if (nextPage == null) {
+            nextPage = fetch(offset, cursor);
+        }
+
+        MoviePage page;
+        try {
+            page = nextPage.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof MovieErrorResponse ? (MovieErrorResponse) e.getCause() : new MovieErrorResponse(e);
+        } finally {
+            nextPage = null;
+        }
+
+        List<MovieDTO> movies = page.getMovies() == null ? Collections.<MovieDTO>emptyList() : page.getMovies();
+        current = movies;
+        index = 0;
+        offset += movies.size();
+        if (options.getMode() == PagingOptions.Mode.CURSOR) {
+            cursor = page.getNextCursor();
+            lastPage = movies.isEmpty() || cursor == null;
+        } else {
+            lastPage = movies.size() < options.getPageSize();
+        }
+
+        if (!lastPage) {
+            nextPage = fetch(offset, cursor);
+        }
+    }
+
+    private CompletableFuture<MoviePage> fetch(long pageOffset, String pageCursor) {
+        return CompletableFuture.supplyAsync(() -> fetchWithRetry(pageOffset, pageCursor), prefetcher);
+    }
+
+    private MoviePage fetchWithRetry(long pageOffset, String pageCursor) {
+        long backoffMillis = options.getRetryBackoff().toMillis();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return options.getMode() == PagingOptions.Mode.CURSOR
+                        ? moviesRestClient.retrieveMoviesPage(pageCursor, options.getPageSize())
+                        : moviesRestClient.retrieveMoviesPage(pageOffset, options.getPageSize());
+            } catch (MovieErrorResponse e) {
+                if (attempt >= options.getMaxRetries()) {
+                    throw e;
+                }
+                log.warn("Retrying page at offset {} / cursor {} after attempt {} failed: {}", pageOffset, pageCursor, attempt + 1, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(backoffMillis << attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MovieErrorResponse(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.gianvittorio.javawiremock.service;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@Builder
+public class PagingOptions {
+    public enum Mode {
+        OFFSET, CURSOR
+    }
+
+    @Builder.Default
+    private Mode mode = Mode.OFFSET;
+
+    @Builder.Default
+    private int pageSize = 500;
+
+    /**
+     * Attempts made on top of the first one before a page is given up on.
+     */
+    @Builder.Default
+    private int maxRetries = 3;
+
+    /**
+     * Wait before the first retry, doubled on each of the following ones.
+     */
+    @Builder.Default
+    private Duration retryBackoff = Duration.ofMillis(200);
+}
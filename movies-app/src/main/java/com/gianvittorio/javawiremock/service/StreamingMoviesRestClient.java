@@ -0,0 +1,13 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import reactor.core.publisher.Flux;
+
+public interface StreamingMoviesRestClient {
+
+    Flux<MovieDTO> streamAllMovies();
+
+    Flux<MovieDTO> streamMoviesByName(String movieName);
+
+    Flux<MovieDTO> streamMoviesByYear(Integer movieYear);
+}
@@ -0,0 +1,273 @@
+package com.gianvittorio.javawiremock.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gianvittorio.javawiremock.config.HttpTransport;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.exception.MovieHttpStatusException;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.gianvittorio.javawiremock.web.dto.MoviePage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link MoviesRestClient} on top of the JDK {@link HttpClient}, for callers that only need blocking calls and do not
+ * want the WebFlux and reactor-netty stack on their classpath.
+ */
+@Slf4j
+public class JdkHttpMoviesRestClient implements MoviesRestClient {
+    private static final String APPLICATION_JSON = "application/json";
+
+    private static final String TEXT_PLAIN = "text/plain";
+
+    private static final TypeReference<List<MovieDTO>> MOVIE_LIST = new TypeReference<List<MovieDTO>>() {
+    };
+
+    private final HttpClient httpClient;
+
+    private final String baseUrl;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration requestTimeout;
+
+    public JdkHttpMoviesRestClient(String baseUrl) {
+        this(HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build(),
+                baseUrl,
+                MoviesObjectMapper.shared(),
+                Duration.ofSeconds(5));
+    }
+
+    public JdkHttpMoviesRestClient(HttpClient httpClient, String baseUrl, ObjectMapper objectMapper, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * {@link HttpTransport#H2C} and {@link HttpTransport#H2} both map to {@link HttpClient.Version#HTTP_2}, which the
+     * JDK client negotiates through the upgrade header or ALPN depending on the scheme. The pool size options do not
+     * apply, the JDK client manages its own connections.
+     */
+    public static JdkHttpMoviesRestClient create(MoviesClientOptions options) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(options.getTransport() == HttpTransport.HTTP_1_1 ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.HTTP_2)
+                .connectTimeout(options.getConnectTimeout())
+                .build();
+
+        return new JdkHttpMoviesRestClient(httpClient, options.getBaseUrl(),
+                MoviesObjectMapper.of(options.getJacksonAccelerator()),
+                options.getReadTimeout());
+    }
+
+    @Override
+    public List<MovieDTO> retrieveAllMovies() {
+        return exchange("retrieveAllMovies", get(MoviesConstants.GET_ALL_MOVIES_V1), MOVIE_LIST).getBody();
+    }
+
+    @Override
+    public MoviePage retrieveMoviesPage(long offset, int limit) {
+        String path = MoviesConstants.GET_ALL_MOVIES_V1
+                + "?" + MoviesConstants.PAGE_OFFSET_PARAM + "=" + offset
+                + "&" + MoviesConstants.PAGE_LIMIT_PARAM + "=" + limit;
+
+        return toPage(exchange("retrieveMoviesPage", get(path), MOVIE_LIST));
+    }
+
+    @Override
+    public MoviePage retrieveMoviesPage(String cursor, int limit) {
+        String path = MoviesConstants.GET_ALL_MOVIES_V1 + "?" + MoviesConstants.PAGE_LIMIT_PARAM + "=" + limit;
+        if (cursor != null) {
+            path += "&" + MoviesConstants.PAGE_CURSOR_PARAM + "=" + encode(cursor);
+        }
+
+        return toPage(exchange("retrieveMoviesPage", get(path), MOVIE_LIST));
+    }
+
+    @Override
+    public MovieDTO retrieveMovieById(Long id) {
+        return exchange("retrieveMovieById", get(movieByIdPath(id)), MovieDTO.class).getBody();
+    }
+
+    @Override
+    public List<MovieDTO> retrieveMoviesByName(String movieName) {
+        return exchange("retrieveMoviesByName", get(movieByNamePath(movieName)), MOVIE_LIST).getBody();
+    }
+
+    @Override
+    public List<MovieDTO> retrieveMoviesByYear(Integer movieYear) {
+        String path = MoviesConstants.GET_MOVIE_BY_YEAR_V1 + "?year=" + movieYear;
+
+        return exchange("retrieveMoviesByYear", get(path), MOVIE_LIST).getBody();
+    }
+
+    @Override
+    public MovieDTO addMovie(MovieDTO movieDTO) {
+        return exchange("addMovie", withBody(request(MoviesConstants.ADD_MOVIE_V1), "POST", movieDTO), MovieDTO.class).getBody();
+    }
+
+    @Override
+    public MovieDTO updateMovie(Long movieId, MovieDTO movieDTO) {
+        return exchange("updateMovie", withBody(request(movieByIdPath(movieId)), "PUT", movieDTO), MovieDTO.class).getBody();
+    }
+
+    @Override
+    public String deleteMovieById(Long movieId) {
+        HttpRequest request = request(movieByIdPath(movieId))
+                .header("Accept", TEXT_PLAIN)
+                .DELETE()
+                .build();
+
+        return send("deleteMovieById", request).body();
+    }
+
+    @Override
+    public String deleteMovieByName(String name) {
+        HttpRequest request = request(movieByNamePath(name))
+                .header("Accept", TEXT_PLAIN)
+                .DELETE()
+                .build();
+
+        send("deleteMovieByName", request);
+
+        return "Movie Deleted Successfully";
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout);
+    }
+
+    private HttpRequest get(String path) {
+        return request(path)
+                .header("Accept", APPLICATION_JSON)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest withBody(HttpRequest.Builder builder, String method, MovieDTO movieDTO) {
+        try {
+            return builder
+                    .header("Accept", APPLICATION_JSON)
+                    .header("Content-Type", APPLICATION_JSON)
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(movieDTO)))
+                    .build();
+        } catch (IOException ex) {
+            throw new MovieErrorResponse(ex);
+        }
+    }
+
+    private <T> Entity<T> exchange(String operation, HttpRequest request, Class<T> type) {
+        return exchange(operation, request, objectMapper.getTypeFactory().constructType(type));
+    }
+
+    private <T> Entity<T> exchange(String operation, HttpRequest request, TypeReference<T> type) {
+        return exchange(operation, request, objectMapper.getTypeFactory().constructType(type));
+    }
+
+    private <T> Entity<T> exchange(String operation, HttpRequest request, JavaType type) {
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            try (InputStream body = response.body()) {
+                if (response.statusCode() >= 400) {
+                    throw statusError(operation, response.statusCode(), new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                return new Entity<>(objectMapper.readValue(body, type), response);
+            }
+        } catch (MovieErrorResponse e) {
+            throw e;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.error("Exception in {} and the message is {}", operation, ex);
+            throw new MovieErrorResponse(ex);
+        } catch (Exception ex) {
+            log.error("Exception in {} and the message is {}", operation, ex);
+            throw new MovieErrorResponse(ex);
+        }
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw statusError(operation, response.statusCode(), response.body());
+            }
+
+            return response;
+        } catch (MovieErrorResponse e) {
+            throw e;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.error("Exception in {} and the message is {}", operation, ex);
+            throw new MovieErrorResponse(ex);
+        } catch (Exception ex) {
+            log.error("Exception in {} and the message is {}", operation, ex);
+            throw new MovieErrorResponse(ex);
+        }
+    }
+
+    private static MovieErrorResponse statusError(String operation, int statusCode, String body) {
+        log.error("Error response in {}. Status code is {} and the message is {}", operation, statusCode, body);
+
+        return new MovieErrorResponse("HTTP " + statusCode, new MovieHttpStatusException(statusCode, body));
+    }
+
+    private static MoviePage toPage(Entity<List<MovieDTO>> entity) {
+        return MoviePage.builder()
+                .movies(entity.getBody())
+                .nextCursor(entity.getResponse().headers().firstValue(MoviesConstants.NEXT_CURSOR_HEADER).orElse(null))
+                .build();
+    }
+
+    private static String movieByIdPath(Long movieId) {
+        return MoviesConstants.GET_MOVIE_BY_ID_V1.replace("{id}", String.valueOf(movieId));
+    }
+
+    private static String movieByNamePath(String movieName) {
+        return MoviesConstants.GET_MOVIE_BY_NAME_V1 + "?movie_name=" + encode(movieName);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static class Entity<T> {
+        private final T body;
+
+        private final HttpResponse<?> response;
+
+        Entity(T body, HttpResponse<?> response) {
+            this.body = body;
+            this.response = response;
+        }
+
+        T getBody() {
+            return body;
+        }
+
+        HttpResponse<?> getResponse() {
+            return response;
+        }
+    }
+}
@@ -1,37 +1,117 @@
 package com.gianvittorio.javawiremock.service.impl;
 
+import com.gianvittorio.javawiremock.config.WireFormat;
 import com.gianvittorio.javawiremock.constants.MoviesConstants;
 import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.jfr.ClientEvents;
+import com.gianvittorio.javawiremock.metrics.ClientMetrics;
 import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.service.StreamingMoviesRestClient;
+import com.gianvittorio.javawiremock.tracing.ClientTracing;
 import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.gianvittorio.javawiremock.web.dto.MoviePage;
+import io.opentelemetry.api.common.Attributes;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
-public class MoviesRestClientImpl implements MoviesRestClient {
+public class MoviesRestClientImpl implements MoviesRestClient, StreamingMoviesRestClient {
+    private static final int STREAM_PREFETCH = 256;
+
+    /**
+     * Content types of the {@link WireFormat}s that are not {@link WireFormat#isStreamable() streamable}.
+     */
+    private static final List<MediaType> AGGREGATED_MEDIA_TYPES = Arrays.stream(WireFormat.values())
+            .filter(wireFormat -> !wireFormat.isStreamable())
+            .map(wireFormat -> MediaType.parseMediaType(wireFormat.getMediaType()))
+            .collect(Collectors.toList());
+
+    private static final ParameterizedTypeReference<List<MovieDTO>> MOVIE_LIST = new ParameterizedTypeReference<List<MovieDTO>>() {
+    };
 
     private final WebClient webClient;
 
+    /**
+     * Accept header of single movie responses.
+     */
+    private final MediaType[] entityMediaTypes;
+
+    /**
+     * Accept header of collection responses, including the newline-delimited variant of JSON.
+     */
+    private final MediaType[] collectionMediaTypes;
+
+    /**
+     * Latency histograms and slow-call log, {@code null} when not measured.
+     */
+    private final ClientMetrics metrics;
+
+    /**
+     * Spans around each operation, {@code null} when not traced.
+     */
+    private final ClientTracing tracing;
+
     public MoviesRestClientImpl(WebClient webClient) {
+        this(webClient, Collections.singletonList(WireFormat.JSON));
+    }
+
+    public MoviesRestClientImpl(WebClient webClient, List<WireFormat> wireFormats) {
+        this(webClient, wireFormats, null);
+    }
+
+    /**
+     * @param metrics where calls are measured, the phase breakdown of slow calls needs the {@link WebClient}'s
+     *                HttpClient to be {@link ClientMetrics#instrument instrumented} by the same instance
+     */
+    public MoviesRestClientImpl(WebClient webClient, List<WireFormat> wireFormats, ClientMetrics metrics) {
+        this(webClient, wireFormats, metrics, null);
+    }
+
+    /**
+     * @param tracing where operations are traced, trace context is only propagated when the {@link WebClient} has
+     *                the same instance's {@link ClientTracing#filter() filter}
+     */
+    public MoviesRestClientImpl(WebClient webClient, List<WireFormat> wireFormats, ClientMetrics metrics, ClientTracing tracing) {
         this.webClient = webClient;
+        this.metrics = metrics;
+        this.tracing = tracing;
+
+        List<MediaType> entityTypes = new ArrayList<>();
+        List<MediaType> collectionTypes = new ArrayList<>();
+        for (WireFormat wireFormat : wireFormats) {
+            if (wireFormat == WireFormat.JSON) {
+                continue;
+            }
+            entityTypes.add(MediaType.parseMediaType(wireFormat.getMediaType()));
+            collectionTypes.add(MediaType.parseMediaType(wireFormat.getMediaType()));
+        }
+        entityTypes.add(MediaType.APPLICATION_JSON);
+        collectionTypes.add(MediaType.APPLICATION_NDJSON);
+        collectionTypes.add(MediaType.APPLICATION_JSON);
+
+        this.entityMediaTypes = entityTypes.toArray(new MediaType[0]);
+        this.collectionMediaTypes = collectionTypes.toArray(new MediaType[0]);
     }
 
     @Override
     public List<MovieDTO> retrieveAllMovies() {
         try {
-            return webClient.get()
-                    .uri(MoviesConstants.GET_ALL_MOVIES_V1)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToFlux(MovieDTO.class)
-                    .collectList()
+            return observe("retrieveAllMovies", retrieveMovies(MoviesConstants.GET_ALL_MOVIES_V1).collectList())
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in retrieveAllMovies. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -42,13 +122,79 @@ public class MoviesRestClientImpl implements MoviesRestClient {
         }
     }
 
+    @Override
+    public Flux<MovieDTO> streamAllMovies() {
+        return observe("streamAllMovies", retrieveMovies(MoviesConstants.GET_ALL_MOVIES_V1))
+                .limitRate(STREAM_PREFETCH)
+                .onErrorMap(Exception.class, ex -> toMovieErrorResponse("streamAllMovies", ex));
+    }
+
+    @Override
+    public Flux<MovieDTO> streamMoviesByName(String movieName) {
+        return observe("streamMoviesByName", retrieveMovies(movieByNameUri(movieName)))
+                .limitRate(STREAM_PREFETCH)
+                .onErrorMap(Exception.class, ex -> toMovieErrorResponse("streamMoviesByName", ex));
+    }
+
+    @Override
+    public Flux<MovieDTO> streamMoviesByYear(Integer movieYear) {
+        return observe("streamMoviesByYear", ClientTracing.year(movieYear), retrieveMovies(movieByYearUri(movieYear)))
+                .limitRate(STREAM_PREFETCH)
+                .onErrorMap(Exception.class, ex -> toMovieErrorResponse("streamMoviesByYear", ex));
+    }
+
+    @Override
+    public MoviePage retrieveMoviesPage(long offset, int limit) {
+        String uri = UriComponentsBuilder.fromUriString(MoviesConstants.GET_ALL_MOVIES_V1)
+                .queryParam(MoviesConstants.PAGE_OFFSET_PARAM, offset)
+                .queryParam(MoviesConstants.PAGE_LIMIT_PARAM, limit)
+                .buildAndExpand()
+                .toUriString();
+
+        return retrieveMoviesPage(uri);
+    }
+
+    @Override
+    public MoviePage retrieveMoviesPage(String cursor, int limit) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(MoviesConstants.GET_ALL_MOVIES_V1)
+                .queryParam(MoviesConstants.PAGE_LIMIT_PARAM, limit);
+        if (cursor != null) {
+            uriBuilder.queryParam(MoviesConstants.PAGE_CURSOR_PARAM, cursor);
+        }
+
+        return retrieveMoviesPage(uriBuilder.buildAndExpand().toUriString());
+    }
+
+    private MoviePage retrieveMoviesPage(String uri) {
+        try {
+            ResponseEntity<List<MovieDTO>> response = observe("retrieveMoviesPage", webClient.get()
+                    .uri(uri)
+                    .accept(entityMediaTypes)
+                    .retrieve()
+                    .toEntity(MOVIE_LIST))
+                    .block();
+
+            return MoviePage.builder()
+                    .movies(response.getBody())
+                    .nextCursor(response.getHeaders().getFirst(MoviesConstants.NEXT_CURSOR_HEADER))
+                    .build();
+        } catch (WebClientResponseException e) {
+            log.error("WebClientResponseException in retrieveMoviesPage. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
+            throw new MovieErrorResponse(e.getStatusText(), e);
+        } catch (Exception ex) {
+            log.error("Exception in retrieveMoviesPage and the message is {}", ex);
+            throw new MovieErrorResponse(ex);
+        }
+    }
+
     @Override
     public MovieDTO retrieveMovieById(Long movieId) {
         try {
-            return webClient.get()
+            return observe("retrieveMovieById", ClientTracing.movieId(movieId), webClient.get()
                     .uri(MoviesConstants.GET_MOVIE_BY_ID_V1, movieId)
+                    .accept(entityMediaTypes)
                     .retrieve()
-                    .bodyToMono(MovieDTO.class)
+                    .bodyToMono(MovieDTO.class))
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in retrieveMoviedById. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -61,18 +207,10 @@ public class MoviesRestClientImpl implements MoviesRestClient {
 
     @Override
     public List<MovieDTO> retrieveMoviesByName(String movieName) {
-        String uri = UriComponentsBuilder.fromUriString(MoviesConstants.GET_MOVIE_BY_NAME_V1)
-                .queryParam("movie_name", movieName)
-                .buildAndExpand()
-                .toUriString();
+        String uri = movieByNameUri(movieName);
 
         try {
-            return webClient.get()
-                    .uri(uri)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToFlux(MovieDTO.class)
-                    .collectList()
+            return observe("retrieveMoviesByName", retrieveMovies(uri).collectList())
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in retrieveMoviedByName. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -85,18 +223,10 @@ public class MoviesRestClientImpl implements MoviesRestClient {
 
     @Override
     public List<MovieDTO> retrieveMoviesByYear(Integer movieYear) {
-        String uri = UriComponentsBuilder.fromUriString(MoviesConstants.GET_MOVIE_BY_YEAR_V1)
-                .queryParam("year", movieYear)
-                .buildAndExpand()
-                .toUriString();
+        String uri = movieByYearUri(movieYear);
 
         try {
-            return webClient.get()
-                    .uri(uri)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToFlux(MovieDTO.class)
-                    .collectList()
+            return observe("retrieveMoviesByYear", ClientTracing.year(movieYear), retrieveMovies(uri).collectList())
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in retrieveMovieByYear. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -110,13 +240,13 @@ public class MoviesRestClientImpl implements MoviesRestClient {
     @Override
     public MovieDTO addMovie(MovieDTO movieDTO) {
         try {
-            return webClient.post()
+            return observe("addMovie", webClient.post()
                     .uri(MoviesConstants.ADD_MOVIE_V1)
-                    .accept(MediaType.APPLICATION_JSON)
+                    .accept(entityMediaTypes)
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(Mono.just(movieDTO), MovieDTO.class)
                     .retrieve()
-                    .bodyToMono(MovieDTO.class)
+                    .bodyToMono(MovieDTO.class))
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in addMovie. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -130,13 +260,13 @@ public class MoviesRestClientImpl implements MoviesRestClient {
     @Override
     public MovieDTO updateMovie(Long movieId, MovieDTO movieDTO) {
         try {
-            return webClient.put()
+            return observe("updateMovie", ClientTracing.movieId(movieId), webClient.put()
                     .uri(MoviesConstants.GET_MOVIE_BY_ID_V1, movieId)
-                    .accept(MediaType.APPLICATION_JSON)
+                    .accept(entityMediaTypes)
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(Mono.just(movieDTO), MovieDTO.class)
                     .retrieve()
-                    .bodyToMono(MovieDTO.class)
+                    .bodyToMono(MovieDTO.class))
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in updateMovie. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -150,11 +280,11 @@ public class MoviesRestClientImpl implements MoviesRestClient {
     @Override
     public String deleteMovieById(Long movieId) {
         try {
-            return webClient.delete()
+            return observe("deleteMovieById", ClientTracing.movieId(movieId), webClient.delete()
                     .uri(MoviesConstants.GET_MOVIE_BY_ID_V1, movieId)
                     .accept(MediaType.TEXT_PLAIN)
                     .retrieve()
-                    .bodyToMono(String.class)
+                    .bodyToMono(String.class))
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in deleteMovieById. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -173,11 +303,11 @@ public class MoviesRestClientImpl implements MoviesRestClient {
                     .buildAndExpand()
                     .toUriString();
 
-            webClient.delete()
+            observe("deleteMovieByName", webClient.delete()
                     .uri(uri)
                     .accept(MediaType.TEXT_PLAIN)
                     .retrieve()
-                    .bodyToMono(Void.class)
+                    .bodyToMono(Void.class))
                     .block();
         } catch (WebClientResponseException e) {
             log.error("WebClientResponseException in deleteMovieByName. Status code is {} and the message is {}", e.getRawStatusCode(), e.getResponseBodyAsString());
@@ -189,4 +319,84 @@ public class MoviesRestClientImpl implements MoviesRestClient {
 
         return "Movie Deleted Successfully";
     }
+
+    /**
+     * Streams the movies of a collection endpoint, preferring the configured binary formats, then newline-delimited
+     * JSON so each movie is decoded as soon as its line arrives, with the JSON array as fallback. Servers answering 406
+     * to that offer are asked again for a plain JSON array.
+     */
+    private Flux<MovieDTO> retrieveMovies(String uri) {
+        return webClient.get()
+                .uri(uri)
+                .accept(collectionMediaTypes)
+                .exchangeToFlux(response -> {
+                    if (response.rawStatusCode() >= 400) {
+                        return response.createException().flatMapMany(Flux::error);
+                    }
+
+                    // formats Spring cannot decode as a stream of values are aggregated into a list first
+                    MediaType contentType = response.headers().contentType().orElse(MediaType.APPLICATION_JSON);
+                    if (AGGREGATED_MEDIA_TYPES.stream().anyMatch(mediaType -> mediaType.isCompatibleWith(contentType))) {
+                        return response.bodyToMono(MOVIE_LIST).flatMapIterable(Function.identity());
+                    }
+
+                    return response.bodyToFlux(MovieDTO.class);
+                })
+                .onErrorResume(WebClientResponseException.NotAcceptable.class, e -> webClient.get()
+                        .uri(uri)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToFlux(MovieDTO.class));
+    }
+
+    private <T> Mono<T> observe(String operation, Mono<T> call) {
+        return observe(operation, Attributes.empty(), call);
+    }
+
+    private <T> Mono<T> observe(String operation, Attributes attributes, Mono<T> call) {
+        Mono<T> measured = metrics == null ? call : metrics.observe(operation, call);
+        Mono<T> traced = tracing == null ? measured : tracing.trace(operation, attributes, measured);
+
+        return ClientEvents.record(operation, traced);
+    }
+
+    private <T> Flux<T> observe(String operation, Flux<T> call) {
+        return observe(operation, Attributes.empty(), call);
+    }
+
+    private <T> Flux<T> observe(String operation, Attributes attributes, Flux<T> call) {
+        Flux<T> measured = metrics == null ? call : metrics.observe(operation, call);
+        Flux<T> traced = tracing == null ? measured : tracing.trace(operation, attributes, measured);
+
+        return ClientEvents.record(operation, traced);
+    }
+
+    private static String movieByNameUri(String movieName) {
+        return UriComponentsBuilder.fromUriString(MoviesConstants.GET_MOVIE_BY_NAME_V1)
+                .queryParam("movie_name", movieName)
+                .buildAndExpand()
+                .toUriString();
+    }
+
+    private static String movieByYearUri(Integer movieYear) {
+        return UriComponentsBuilder.fromUriString(MoviesConstants.GET_MOVIE_BY_YEAR_V1)
+                .queryParam("year", movieYear)
+                .buildAndExpand()
+                .toUriString();
+    }
+
+    private static MovieErrorResponse toMovieErrorResponse(String operation, Exception ex) {
+        if (ex instanceof MovieErrorResponse) {
+            return (MovieErrorResponse) ex;
+        }
+
+        if (ex instanceof WebClientResponseException) {
+            WebClientResponseException e = (WebClientResponseException) ex;
+            log.error("WebClientResponseException in {}. Status code is {} and the message is {}", operation, e.getRawStatusCode(), e.getResponseBodyAsString());
+            return new MovieErrorResponse(e.getStatusText(), e);
+        }
+
+        log.error("Exception in {} and the message is {}", operation, ex);
+        return new MovieErrorResponse(ex);
+    }
 }
@@ -0,0 +1,361 @@
+package com.gianvittorio.javawiremock.service.impl;
+
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.gianvittorio.javawiremock.web.dto.MoviePage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link MoviesRestClient} decorator that queues {@code addMovie} and {@code updateMovie} calls and sends them from a
+ * background worker.
+ * <p>
+ * Pending updates of the same movie id are coalesced, the last one wins and completes every caller's future. The worker
+ * flushes as soon as {@link WriteBehindOptions#getBatchSize()} writes are queued or the oldest one has waited
+ * {@link WriteBehindOptions#getMaxDelay()}. The writes of a batch are sent concurrently, one sender thread each, so a
+ * batch costs about one round trip rather than one per write; writes in a batch have distinct keys, so their order
+ * does not matter. Callers block once {@link WriteBehindOptions#getCapacity()} writes are
+ * pending. Reads go straight to the delegate; deletes flush the queue first so they never overtake a pending write.
+ * <p>
+ * Only the {@code *Async} methods wait for a batch. The blocking {@link #addMovie} and {@link #updateMovie} have
+ * their write sent right away, along with whatever else is queued, so they add no {@code maxDelay} latency. If the
+ * worker is interrupted the client closes and every pending write fails with a {@link MovieErrorResponse}.
+ */
+@Slf4j
+public class WriteBehindMoviesRestClient implements MoviesRestClient, AutoCloseable {
+    private final MoviesRestClient delegate;
+
+    private final WriteBehindOptions options;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final Condition drained = lock.newCondition();
+
+    private final Map<Object, PendingWrite> pending = new LinkedHashMap<>();
+
+    private final Thread worker;
+
+    /**
+     * Sends the writes of a batch in parallel, at most {@link WriteBehindOptions#getBatchSize()} threads that are
+     * released when idle.
+     */
+    private final ExecutorService senders;
+
+    private int inFlight;
+
+    private int flushRequests;
+
+    /**
+     * Pending writes a caller is blocked on, the worker sends without waiting for the batch while there are any.
+     */
+    private int urgentWrites;
+
+    private boolean closed;
+
+    public WriteBehindMoviesRestClient(MoviesRestClient delegate, WriteBehindOptions options) {
+        this.delegate = delegate;
+        this.options = options;
+
+        AtomicInteger senderCount = new AtomicInteger();
+        senders = new ThreadPoolExecutor(0, options.getBatchSize(), 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread sender = new Thread(runnable, "movies-write-behind-sender-" + senderCount.incrementAndGet());
+            sender.setDaemon(true);
+            return sender;
+        });
+
+        worker = new Thread(this::drainLoop, "movies-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public CompletableFuture<MovieDTO> addMovieAsync(MovieDTO movieDTO) {
+        return submit(new Object(), null, movieDTO, false);
+    }
+
+    public CompletableFuture<MovieDTO> updateMovieAsync(Long movieId, MovieDTO movieDTO) {
+        return submit(movieId, movieId, movieDTO, false);
+    }
+
+    @Override
+    public MovieDTO addMovie(MovieDTO movieDTO) {
+        return await(submit(new Object(), null, movieDTO, true));
+    }
+
+    @Override
+    public MovieDTO updateMovie(Long movieId, MovieDTO movieDTO) {
+        return await(submit(movieId, movieId, movieDTO, true));
+    }
+
+    @Override
+    public List<MovieDTO> retrieveAllMovies() {
+        return delegate.retrieveAllMovies();
+    }
+
+    @Override
+    public MoviePage retrieveMoviesPage(long offset, int limit) {
+        return delegate.retrieveMoviesPage(offset, limit);
+    }
+
+    @Override
+    public MoviePage retrieveMoviesPage(String cursor, int limit) {
+        return delegate.retrieveMoviesPage(cursor, limit);
+    }
+
+    @Override
+    public MovieDTO retrieveMovieById(Long id) {
+        return delegate.retrieveMovieById(id);
+    }
+
+    @Override
+    public List<MovieDTO> retrieveMoviesByName(String movieName) {
+        return delegate.retrieveMoviesByName(movieName);
+    }
+
+    @Override
+    public List<MovieDTO> retrieveMoviesByYear(Integer movieYear) {
+        return delegate.retrieveMoviesByYear(movieYear);
+    }
+
+    @Override
+    public String deleteMovieById(Long movieId) {
+        flush();
+
+        return delegate.deleteMovieById(movieId);
+    }
+
+    @Override
+    public String deleteMovieByName(String name) {
+        flush();
+
+        return delegate.deleteMovieByName(name);
+    }
+
+    /**
+     * Blocks until the queue is empty and no write is in flight.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            flushRequests++;
+            notEmpty.signal();
+            while (!pending.isEmpty() || inFlight > 0) {
+                drained.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MovieErrorResponse(e);
+        } finally {
+            flushRequests--;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting writes, sends the queued ones and stops the worker.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MovieErrorResponse(e);
+        }
+    }
+
+    private CompletableFuture<MovieDTO> submit(Object key, Long movieId, MovieDTO movieDTO, boolean urgent) {
+        CompletableFuture<MovieDTO> future = new CompletableFuture<>();
+
+        lock.lock();
+        try {
+            while (!closed && !pending.containsKey(key) && pending.size() >= options.getCapacity()) {
+                notFull.await();
+            }
+
+            if (closed) {
+                throw new IllegalStateException("Write-behind queue is closed");
+            }
+
+            PendingWrite write = pending.get(key);
+            if (write == null) {
+                write = new PendingWrite(movieId, movieDTO, future);
+                pending.put(key, write);
+            } else {
+                write.coalesce(movieDTO, future);
+            }
+            if (urgent && !write.urgent) {
+                write.urgent = true;
+                urgentWrites++;
+            }
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MovieErrorResponse(e);
+        } finally {
+            lock.unlock();
+        }
+
+        return future;
+    }
+
+    private void drainLoop() {
+        while (true) {
+            List<PendingWrite> batch = nextBatch();
+            if (batch == null) {
+                senders.shutdown();
+                return;
+            }
+
+            CompletableFuture.allOf(batch.stream()
+                    .map(write -> CompletableFuture.runAsync(write::send, senders))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+
+            lock.lock();
+            try {
+                inFlight -= batch.size();
+                if (pending.isEmpty() && inFlight == 0) {
+                    drained.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private List<PendingWrite> nextBatch() {
+        lock.lock();
+        try {
+            while (pending.isEmpty()) {
+                if (closed) {
+                    return null;
+                }
+                notEmpty.await();
+            }
+
+            long deadline = pending.values().iterator().next().enqueuedAt + options.getMaxDelay().toNanos();
+            while (pending.size() < options.getBatchSize() && flushRequests == 0 && urgentWrites == 0 && !closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                notEmpty.awaitNanos(remaining);
+            }
+
+            List<PendingWrite> batch = new ArrayList<>(Math.min(pending.size(), options.getBatchSize()));
+            Iterator<PendingWrite> iterator = pending.values().iterator();
+            while (iterator.hasNext() && batch.size() < options.getBatchSize()) {
+                PendingWrite write = iterator.next();
+                if (write.urgent) {
+                    urgentWrites--;
+                }
+                batch.add(write);
+                iterator.remove();
+            }
+            inFlight += batch.size();
+            notFull.signalAll();
+
+            return batch;
+        } catch (InterruptedException e) {
+            log.error("Write-behind worker interrupted with {} pending writes", pending.size());
+            Thread.currentThread().interrupt();
+            abandonPending(new MovieErrorResponse(e));
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the client and fails every queued write, waking blocked writers and flushes. Called with the lock held by
+     * a worker that is about to exit.
+     */
+    private void abandonPending(MovieErrorResponse failure) {
+        closed = true;
+        pending.values().forEach(write -> write.fail(failure));
+        pending.clear();
+        urgentWrites = 0;
+
+        notFull.signalAll();
+        if (inFlight == 0) {
+            drained.signalAll();
+        }
+    }
+
+    private static MovieDTO await(CompletableFuture<MovieDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MovieErrorResponse(e);
+        }
+    }
+
+    private class PendingWrite {
+        private final Long movieId;
+
+        private final long enqueuedAt = System.nanoTime();
+
+        private final List<CompletableFuture<MovieDTO>> futures = new ArrayList<>(1);
+
+        private MovieDTO movieDTO;
+
+        private boolean urgent;
+
+        PendingWrite(Long movieId, MovieDTO movieDTO, CompletableFuture<MovieDTO> future) {
+            this.movieId = movieId;
+            this.movieDTO = movieDTO;
+            futures.add(future);
+        }
+
+        void coalesce(MovieDTO movieDTO, CompletableFuture<MovieDTO> future) {
+            this.movieDTO = movieDTO;
+            futures.add(future);
+        }
+
+        void send() {
+            try {
+                MovieDTO result = movieId == null
+                        ? delegate.addMovie(movieDTO)
+                        : delegate.updateMovie(movieId, movieDTO);
+                futures.forEach(future -> future.complete(result));
+            } catch (RuntimeException ex) {
+                fail(ex);
+            }
+        }
+
+        void fail(RuntimeException ex) {
+            futures.forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+}
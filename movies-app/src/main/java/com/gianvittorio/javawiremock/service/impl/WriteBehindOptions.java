@@ -0,0 +1,28 @@
+package com.gianvittorio.javawiremock.service.impl;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@Builder
+public class WriteBehindOptions {
+    /**
+     * Maximum number of queued writes; submitting past it blocks the caller until the worker catches up.
+     */
+    @Builder.Default
+    private int capacity = 1_000;
+
+    /**
+     * Number of queued writes that triggers a flush.
+     */
+    @Builder.Default
+    private int batchSize = 50;
+
+    /**
+     * Longest time a write waits in the queue before it is flushed.
+     */
+    @Builder.Default
+    private Duration maxDelay = Duration.ofMillis(100);
+}
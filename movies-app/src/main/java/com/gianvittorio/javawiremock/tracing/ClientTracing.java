@@ -0,0 +1,151 @@
+package com.gianvittorio.javawiremock.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OpenTelemetry spans around the operations of the movies client. {@link #trace} opens a {@link SpanKind#CLIENT} span
+ * for the whole operation, child of the span current on the calling thread, and keeps the calling thread's
+ * {@link Context} with that span in the Reactor context under {@code Context.class}. The {@link #filter()} registered
+ * on the {@code WebClient} finds it there, writes it into the outbound headers with the configured propagator, so
+ * baggage and other context entries travel along with the W3C {@code traceparent}, and adds the response status and
+ * size to the span. The size is the {@code Content-Length} when there is one, otherwise the body bytes read, set once
+ * the body has been consumed completely.
+ * <p>
+ * Headers are propagated for unsampled spans too, so the service can keep the trace, but attributes are only
+ * computed for spans that are recording.
+ */
+public class ClientTracing {
+    public static final String INSTRUMENTATION_NAME = "com.gianvittorio.javawiremock.movies-client";
+
+    public static final AttributeKey<String> OPERATION = AttributeKey.stringKey("movies.operation");
+
+    public static final AttributeKey<Long> MOVIE_ID = AttributeKey.longKey("movies.movie_id");
+
+    public static final AttributeKey<Long> YEAR = AttributeKey.longKey("movies.year");
+
+    public static final AttributeKey<Long> STATUS_CODE = AttributeKey.longKey("http.status_code");
+
+    public static final AttributeKey<Long> RESPONSE_CONTENT_LENGTH = AttributeKey.longKey("http.response_content_length");
+
+    private final Tracer tracer;
+
+    private final TextMapPropagator propagator;
+
+    public ClientTracing(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    public static Attributes movieId(Long movieId) {
+        return movieId == null ? Attributes.empty() : Attributes.of(MOVIE_ID, movieId);
+    }
+
+    public static Attributes year(Integer year) {
+        return year == null ? Attributes.empty() : Attributes.of(YEAR, year.longValue());
+    }
+
+    public <T> Mono<T> trace(String operation, Attributes attributes, Mono<T> call) {
+        return Mono.defer(() -> {
+            Span span = start(operation, attributes);
+            Context traceContext = Context.current().with(span);
+
+            return call
+                    .doOnSuccess(value -> span.end())
+                    .doOnError(error -> failed(span, error))
+                    .doOnCancel(span::end)
+                    .contextWrite(context -> context.put(Context.class, traceContext));
+        });
+    }
+
+    public <T> Flux<T> trace(String operation, Attributes attributes, Flux<T> call) {
+        return Flux.defer(() -> {
+            Span span = start(operation, attributes);
+            Context traceContext = Context.current().with(span);
+
+            return call
+                    .doOnComplete(span::end)
+                    .doOnError(error -> failed(span, error))
+                    .doOnCancel(span::end)
+                    .contextWrite(context -> context.put(Context.class, traceContext));
+        });
+    }
+
+    /**
+     * Propagates the span of the current operation and records the response on it, requests made outside
+     * {@link #trace} pass through untouched.
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            Context traceContext = context.getOrDefault(Context.class, null);
+            if (traceContext == null) {
+                return next.exchange(request);
+            }
+
+            ClientRequest traced = ClientRequest.from(request)
+                    .headers(headers -> propagator.inject(traceContext, headers, HttpHeaders::set))
+                    .build();
+
+            Span span = Span.fromContext(traceContext);
+
+            if (!span.isRecording()) {
+                return next.exchange(traced);
+            }
+
+            return next.exchange(traced)
+                    .map(response -> {
+                        span.setAttribute(STATUS_CODE, response.rawStatusCode());
+                        OptionalLong contentLength = response.headers().contentLength();
+                        if (contentLength.isPresent()) {
+                            span.setAttribute(RESPONSE_CONTENT_LENGTH, contentLength.getAsLong());
+                            return response;
+                        }
+
+                        // chunked and streamed bodies have no Content-Length, count what is read instead
+                        return response.mutate()
+                                .body(body -> {
+                                    LongAdder length = new LongAdder();
+                                    return body
+                                            .doOnNext(buffer -> length.add(buffer.readableByteCount()))
+                                            .doOnComplete(() -> span.setAttribute(RESPONSE_CONTENT_LENGTH, length.sum()));
+                                })
+                                .build();
+                    });
+        });
+    }
+
+    private Span start(String operation, Attributes attributes) {
+        Span span = tracer.spanBuilder(operation)
+                .setSpanKind(SpanKind.CLIENT)
+                .setParent(Context.current())
+                .startSpan();
+
+        if (span.isRecording()) {
+            span.setAttribute(OPERATION, operation);
+            span.setAllAttributes(attributes);
+        }
+
+        return span;
+    }
+
+    private static void failed(Span span, Throwable error) {
+        span.recordException(error);
+        span.setStatus(StatusCode.ERROR);
+        span.end();
+    }
+}
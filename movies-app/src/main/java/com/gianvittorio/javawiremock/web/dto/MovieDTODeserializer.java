@@ -0,0 +1,112 @@
+package com.gianvittorio.javawiremock.web.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Streaming {@link MovieDTO} deserializer, replacing reflective databind on the catalog hot path. Field names come
+ * from the parser's symbol table, so the string switch is a switch on their cached hashes, and {@code release_date}
+ * is read from the parser's character buffer. Anything off the fast path, such as numbers sent as strings or
+ * date-times, is handed back to databind so the result stays identical.
+ */
+public class MovieDTODeserializer extends StdDeserializer<MovieDTO> {
+
+    public MovieDTODeserializer() {
+        super(MovieDTO.class);
+    }
+
+    @Override
+    public MovieDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (MovieDTO) ctxt.handleUnexpectedToken(MovieDTO.class, p);
+        }
+
+        MovieDTO movieDTO = new MovieDTO();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String fieldName = p.getCurrentName();
+            token = p.nextToken();
+
+            switch (fieldName) {
+                case "movie_id":
+                    movieDTO.setMovieId(token == JsonToken.VALUE_NUMBER_INT ? Long.valueOf(p.getLongValue()) : readNullable(p, ctxt, Long.class));
+                    break;
+                case "cast":
+                    movieDTO.setCast(token == JsonToken.VALUE_STRING ? p.getText() : readNullable(p, ctxt, String.class));
+                    break;
+                case "name":
+                    movieDTO.setName(token == JsonToken.VALUE_STRING ? p.getText() : readNullable(p, ctxt, String.class));
+                    break;
+                case "release_date":
+                    movieDTO.setReleaseDate(releaseDate(p, ctxt, token));
+                    break;
+                case "year":
+                    movieDTO.setYear(token == JsonToken.VALUE_NUMBER_INT ? Integer.valueOf(p.getIntValue()) : readNullable(p, ctxt, Integer.class));
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, movieDTO, fieldName);
+                    break;
+            }
+        }
+
+        return movieDTO;
+    }
+
+    private static <T> T readNullable(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, type);
+    }
+
+    private static LocalDate releaseDate(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING && p.getTextLength() == 10) {
+            LocalDate releaseDate = parseIsoDate(p.getTextCharacters(), p.getTextOffset());
+            if (releaseDate != null) {
+                return releaseDate;
+            }
+        }
+
+        return readNullable(p, ctxt, LocalDate.class);
+    }
+
+    /**
+     * @return - the {@code yyyy-MM-dd} date at {@code offset}, {@code null} when the characters are anything else
+     */
+    static LocalDate parseIsoDate(char[] chars, int offset) {
+        if (chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+            return null;
+        }
+
+        int year = digits(chars, offset, 4);
+        int month = digits(chars, offset + 5, 2);
+        int day = digits(chars, offset + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    private static int digits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+}
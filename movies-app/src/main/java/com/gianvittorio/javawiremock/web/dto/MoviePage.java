@@ -0,0 +1,21 @@
+package com.gianvittorio.javawiremock.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoviePage {
+    private List<MovieDTO> movies;
+
+    /**
+     * Cursor of the following page, {@code null} on the last page or when paging by offset.
+     */
+    private String nextCursor;
+}
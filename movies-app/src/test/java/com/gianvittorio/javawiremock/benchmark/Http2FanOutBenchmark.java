@@ -0,0 +1,86 @@
+package com.gianvittorio.javawiremock.benchmark;
+
+import com.gianvittorio.javawiremock.config.HttpTransport;
+import com.gianvittorio.javawiremock.config.MoviesClientFactory;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.HttpHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Fans out {@code fanOut} concurrent movie-by-id calls over HTTP/1.1 pooling and over multiplexed h2c.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Http2FanOutBenchmark {
+    @Param({"HTTP_1_1", "H2C"})
+    private HttpTransport transport;
+
+    @Param({"64", "1024"})
+    private int fanOut;
+
+    @Param({"8"})
+    private int maxConnections;
+
+    private WireMockServer wireMockServer;
+
+    private WebClient webClient;
+
+    @Setup
+    public void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig()
+                .dynamicPort()
+                .containerThreads(64)
+                .jettyAcceptors(2));
+        wireMockServer.start();
+        wireMockServer.stubFor(
+                get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBodyFile("movie.json")
+                                        .withFixedDelay(5)
+                        )
+        );
+
+        webClient = MoviesClientFactory.webClient(MoviesClientOptions.builder()
+                .baseUrl(String.format("http://localhost:%d/", wireMockServer.port()))
+                .transport(transport)
+                .maxConnections(transport == HttpTransport.HTTP_1_1 ? fanOut : maxConnections)
+                .pendingAcquireTimeout(Duration.ofMinutes(1))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Benchmark
+    public Long fanOut() {
+        return Flux.range(1, fanOut)
+                .flatMap(id -> webClient.get()
+                        .uri(MoviesConstants.GET_MOVIE_BY_ID_V1, id % 10)
+                        .retrieve()
+                        .bodyToMono(MovieDTO.class), fanOut)
+                .count()
+                .block();
+    }
+}
@@ -0,0 +1,69 @@
+package com.gianvittorio.javawiremock.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gianvittorio.javawiremock.config.JacksonAccelerator;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Decodes a catalog of {@code size} movies. {@code SPRING_DEFAULT} is the mapper WebClient builds when no codecs are
+ * configured, {@code HAND_WRITTEN} the shared {@link MoviesObjectMapper} with its {@code MovieDTODeserializer}, and the
+ * remaining values the same configuration with plain databind and each {@link JacksonAccelerator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MovieDecodeBenchmark {
+    private static final TypeReference<List<MovieDTO>> MOVIE_LIST = new TypeReference<List<MovieDTO>>() {
+    };
+
+    @Param({"SPRING_DEFAULT", "NONE", "AFTERBURNER", "BLACKBIRD", "HAND_WRITTEN"})
+    private String mapper;
+
+    @Param({"1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] catalog;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("SPRING_DEFAULT".equals(mapper)) {
+            objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        } else if ("HAND_WRITTEN".equals(mapper)) {
+            objectMapper = MoviesObjectMapper.shared();
+        } else {
+            objectMapper = MoviesObjectMapper.databind(JacksonAccelerator.valueOf(mapper)).build();
+        }
+
+        List<MovieDTO> movies = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> MovieDTO.builder()
+                        .movieId(id)
+                        .name("Movie " + id)
+                        .cast("Christian Bale, Heath Ledger , Michael Caine")
+                        .year(2000 + (int) (id % 20))
+                        .releaseDate(LocalDate.of(2000, 1, 1).plusDays(id))
+                        .build())
+                .collect(Collectors.toList());
+        catalog = MoviesObjectMapper.shared().writeValueAsBytes(movies);
+    }
+
+    @Benchmark
+    public List<MovieDTO> decodeCatalog() throws IOException {
+        return objectMapper.readValue(catalog, MOVIE_LIST);
+    }
+}
@@ -0,0 +1,117 @@
+package com.gianvittorio.javawiremock.benchmark;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.support.MovieEchoTransformer;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * How many movie requests one WireMock serves with the Handlebars templates compared to {@link MovieEchoTransformer}.
+ * The client only reads the bytes, so the difference is the mock's own cost per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class ResponseTransformerBenchmark {
+    private static final String ADD_MOVIE_BODY = "{\"movie_id\":null,\"cast\":\"Tom Hanks, Tim Allen\",\"name\":\"Toy Story 4\","
+            + "\"release_date\":\"2019-06-20\",\"year\":2019}";
+
+    public enum Transformer {
+        HANDLEBARS,
+        ECHO
+    }
+
+    @Param({"HANDLEBARS", "ECHO"})
+    private Transformer transformer;
+
+    private WireMockServer wireMockServer;
+
+    private HttpClient httpClient;
+
+    private String baseUrl;
+
+    @Setup
+    public void setUp() {
+        wireMockServer = new WireMockServer(
+                wireMockConfig()
+                        .dynamicPort()
+                        .disableRequestJournal()
+                        .extensions(new ResponseTemplateTransformer(false), new MovieEchoTransformer())
+        );
+        wireMockServer.start();
+
+        wireMockServer.stubFor(
+                get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(transformer == Transformer.HANDLEBARS
+                                ? handlebars("movie-template.json")
+                                : echo().withTransformerParameters(MovieEchoTransformer.pathId("movie.json")))
+        );
+        wireMockServer.stubFor(
+                post(urlPathEqualTo(MoviesConstants.ADD_MOVIE_V1))
+                        .willReturn(transformer == Transformer.HANDLEBARS
+                                ? handlebars("add-movie-template.json")
+                                : echo().withTransformerParameters(MovieEchoTransformer.requestBody()))
+        );
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        baseUrl = wireMockServer.baseUrl();
+    }
+
+    @TearDown
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Benchmark
+    public byte[] retrieveMovieById() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/movieservice/v1/movie/" + ThreadLocalRandom.current().nextInt(1, 1000)))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public byte[] addMovie() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + MoviesConstants.ADD_MOVIE_V1))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(ADD_MOVIE_BODY))
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    private static ResponseDefinitionBuilder handlebars(String template) {
+        return MovieFixtures.jsonTemplate(template)
+                .withTransformers("response-template");
+    }
+
+    private static ResponseDefinitionBuilder echo() {
+        return aResponse()
+                .withStatus(HttpStatus.OK.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withTransformers(MovieEchoTransformer.NAME);
+    }
+}
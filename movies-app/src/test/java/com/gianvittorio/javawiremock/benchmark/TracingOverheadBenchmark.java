@@ -0,0 +1,93 @@
+package com.gianvittorio.javawiremock.benchmark;
+
+import com.gianvittorio.javawiremock.config.MoviesClientFactory;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.config.WireFormat;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.tracing.ClientTracing;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side cost of {@link ClientTracing} per call. Responses come from an in-memory exchange function so that no
+ * network time hides the difference; {@code UNSAMPLED} against {@code OFF} is the overhead paid in production with
+ * sampling off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class TracingOverheadBenchmark {
+
+    public enum Tracing {
+        OFF,
+        UNSAMPLED,
+        SAMPLED
+    }
+
+    @Param({"OFF", "UNSAMPLED", "SAMPLED"})
+    private Tracing tracing;
+
+    private MoviesRestClient moviesRestClient;
+
+    @Setup
+    public void setUp() {
+        byte[] movie = MovieFixtures.body("movie.json");
+        ExchangeStrategies exchangeStrategies = MoviesClientFactory.exchangeStrategies(MoviesClientOptions.builder().build());
+
+        WebClient.Builder builder = WebClient.builder()
+                .exchangeStrategies(exchangeStrategies)
+                .exchangeFunction(request -> Mono.just(
+                        ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .header(HttpHeaders.CONTENT_LENGTH, Integer.toString(movie.length))
+                                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(movie)))
+                                .build()
+                ));
+
+        ClientTracing clientTracing = null;
+        if (tracing != Tracing.OFF) {
+            // no span processor, sampled spans are recorded and then dropped
+            clientTracing = new ClientTracing(
+                    OpenTelemetrySdk.builder()
+                            .setTracerProvider(
+                                    SdkTracerProvider.builder()
+                                            .setSampler(tracing == Tracing.SAMPLED ? Sampler.alwaysOn() : Sampler.alwaysOff())
+                                            .build()
+                            )
+                            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                            .build()
+            );
+            builder.filter(clientTracing.filter());
+        }
+
+        moviesRestClient = new MoviesRestClientImpl(builder.build(), Collections.singletonList(WireFormat.JSON), null, clientTracing);
+    }
+
+    @Benchmark
+    public MovieDTO retrieveMovieById() {
+        return moviesRestClient.retrieveMovieById(1L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.gianvittorio.javawiremock.benchmark;
+
+import com.gianvittorio.javawiremock.config.ClientBackend;
+import com.gianvittorio.javawiremock.config.MoviesClientFactory;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.HttpHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Compares the reactor-netty and JDK backends. {@code firstCall} measures building a client and completing its first
+ * call in a fresh JVM, {@code retrieveMovieById} the steady-state latency. Add {@code -prof gc} to the JMH arguments
+ * to get the allocation rate per call.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class TransportBenchmark {
+    @Param({"REACTOR_NETTY", "JDK"})
+    private ClientBackend backend;
+
+    private WireMockServer wireMockServer;
+
+    private MoviesClientOptions options;
+
+    @Setup
+    public void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        wireMockServer.stubFor(
+                get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBodyFile("movie.json")
+                        )
+        );
+
+        options = MoviesClientOptions.builder()
+                .baseUrl(String.format("http://localhost:%d/", wireMockServer.port()))
+                .backend(backend)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public MovieDTO firstCall() {
+        return MoviesClientFactory.moviesRestClient(options).retrieveMovieById(1L);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @Warmup(iterations = 3, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    public MovieDTO retrieveMovieById(WarmClient client) {
+        return client.moviesRestClient.retrieveMovieById(1L);
+    }
+
+    @State(Scope.Benchmark)
+    public static class WarmClient {
+        private MoviesRestClient moviesRestClient;
+
+        @Setup
+        public void setUp(TransportBenchmark benchmark) {
+            moviesRestClient = MoviesClientFactory.moviesRestClient(benchmark.options);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gianvittorio.javawiremock.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gianvittorio.javawiremock.config.JacksonAccelerator;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.config.WireFormat;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Decode time of a {@code size} movie catalog per {@link WireFormat}. The encoded size is reported through the
+ * {@code bytes} counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WireFormatBenchmark {
+    private static final TypeReference<List<MovieDTO>> MOVIE_LIST = new TypeReference<List<MovieDTO>>() {
+    };
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private WireFormat wireFormat;
+
+    @Param({"1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] catalog;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Encoded {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = MoviesObjectMapper.create(wireFormat, JacksonAccelerator.NONE);
+
+        List<MovieDTO> movies = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> MovieDTO.builder()
+                        .movieId(id)
+                        .name("Movie " + id)
+                        .cast("Christian Bale, Heath Ledger , Michael Caine")
+                        .year(2000 + (int) (id % 20))
+                        .releaseDate(LocalDate.of(2000, 1, 1).plusDays(id))
+                        .build())
+                .collect(Collectors.toList());
+        catalog = objectMapper.writeValueAsBytes(movies);
+    }
+
+    @Benchmark
+    public List<MovieDTO> decodeCatalog(Encoded encoded) throws IOException {
+        encoded.bytes = catalog.length;
+
+        return objectMapper.readValue(catalog, MOVIE_LIST);
+    }
+}
@@ -0,0 +1,99 @@
+package com.gianvittorio.javawiremock.catalog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CastIndexTest {
+    static CastIndex castIndex;
+
+    @BeforeAll
+    public static void bootstrap() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        try (InputStream inputStream = CastIndexTest.class.getResourceAsStream("/__files/all-movies.json")) {
+            List<MovieDTO> movies = objectMapper.readValue(inputStream, new TypeReference<List<MovieDTO>>() {
+            });
+            castIndex = CastIndex.build(MovieCatalog.of(movies));
+        }
+    }
+
+    @Test
+    @DisplayName("Must split and normalize cast names.")
+    public void parseCastTest() {
+        // When
+        List<String> names = CastParser.parse(" Christian Bale, Heath   Ledger , Michael Caine,, ");
+
+        // Then
+        assertThat(names)
+                .containsExactly("Christian Bale", "Heath Ledger", "Michael Caine");
+    }
+
+    @Test
+    @DisplayName("Must intern every actor once.")
+    public void actorCountTest() {
+        // Then
+        assertThat(castIndex.actorCount())
+                .isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Must retrieve all movies with an actor.")
+    public void moviesWithTest() {
+        // When
+        List<MovieDTO> movies = castIndex.moviesWith("christian  bale");
+
+        // Then
+        assertThat(movies)
+                .extracting(MovieDTO::getName)
+                .containsExactly("Batman Begins", "Dark Knight", "The Dark Knight Rises");
+    }
+
+    @Test
+    @DisplayName("Must retrieve movies with all the given actors.")
+    public void moviesWithAllTest() {
+        // When
+        List<MovieDTO> movies = castIndex.moviesWithAll("Christian Bale", "Michael Caine");
+
+        // Then
+        assertThat(movies)
+                .extracting(MovieDTO::getName)
+                .containsExactly("Dark Knight", "The Dark Knight Rises");
+        assertThat(castIndex.moviesWithAll("Christian Bale", "Tom Hanks"))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Must refuse queries once the catalog changed under the index.")
+    public void staleIndexTest() {
+        // Given
+        MovieCatalog catalog = MovieCatalog.of(List.of(
+                MovieDTO.builder().movieId(1L).name("Batman Begins").cast("Christian Bale, Liam Neeson").build(),
+                MovieDTO.builder().movieId(2L).name("Toy Story").cast("Tom Hanks, Tim Allen").build()
+        ));
+        CastIndex index = CastIndex.build(catalog);
+
+        // When
+        catalog.remove(1L);
+
+        // Then
+        assertThat(index.isStale())
+                .isTrue();
+        assertThatThrownBy(() -> index.moviesWith("Tom Hanks"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(CastIndex.build(catalog).moviesWith("Tom Hanks"))
+                .extracting(MovieDTO::getName)
+                .containsExactly("Toy Story");
+    }
+}
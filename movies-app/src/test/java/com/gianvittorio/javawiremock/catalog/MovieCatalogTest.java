@@ -0,0 +1,156 @@
+package com.gianvittorio.javawiremock.catalog;
+
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MovieCatalogTest {
+    private static final String[] CASTS = {
+            "Christian Bale, Katie Holmes , Liam Neeson",
+            "Christian Bale, Heath Ledger , Michael Caine",
+            "Robert Downey Jr, Chris Evans , Chris HemsWorth",
+            "Tom Hanks, Tim Allen"
+    };
+
+    @Test
+    @DisplayName("Must read back every field written to the catalog.")
+    public void putAndGetTest() {
+        // Given
+        List<MovieDTO> movies = movies(1_000);
+
+        // When
+        MovieCatalog catalog = MovieCatalog.of(movies);
+
+        // Then
+        assertThat(catalog.size())
+                .isEqualTo(movies.size());
+        for (MovieDTO movie : movies) {
+            int row = catalog.rowOf(movie.getMovieId());
+            assertThat(catalog.get(row))
+                    .isEqualTo(movie);
+            assertThat(catalog.view(row))
+                    .isEqualTo(movie);
+        }
+    }
+
+    @Test
+    @DisplayName("Must overwrite the row of an existing movie id.")
+    public void putExistingIdTest() {
+        // Given
+        MovieCatalog catalog = MovieCatalog.of(movies(10));
+        MovieDTO updated = MovieDTO.builder()
+                .movieId(3L)
+                .name("The Dark Knight Rises")
+                .cast(null)
+                .year(null)
+                .releaseDate(null)
+                .build();
+
+        // When
+        int row = catalog.put(updated);
+
+        // Then
+        assertThat(catalog.size())
+                .isEqualTo(10);
+        assertThat(row)
+                .isEqualTo(catalog.rowOf(3L));
+        assertThat(catalog.get(row))
+                .isEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("Must tell apart contents whose strings share a hash code.")
+    public void contentEqualsHashCollisionTest() {
+        // Given
+        assertThat("Aa".hashCode())
+                .isEqualTo("BB".hashCode());
+        MovieDTO movie = movie("Aa", "Aa", 2005);
+        MovieCatalog catalog = MovieCatalog.of(List.of(movie));
+        int row = catalog.rowOf(1L);
+
+        // When / Then
+        assertThat(catalog.contentEquals(row, movie("Aa", "Aa", 2005)))
+                .isTrue();
+        assertThat(catalog.contentEquals(row, movie("BB", "Aa", 2005)))
+                .isFalse();
+        assertThat(catalog.contentEquals(row, movie("Aa", "BB", 2005)))
+                .isFalse();
+        assertThat(catalog.contentEquals(row, movie("Aa", "Aa", null)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Flyweight view must be read-only and movable.")
+    public void viewTest() {
+        // Given
+        MovieCatalog catalog = MovieCatalog.of(movies(10));
+        MovieDTOView view = catalog.view(0);
+
+        // When
+        view.at(5);
+
+        // Then
+        assertThat(view.getMovieId())
+                .isEqualTo(catalog.movieId(5));
+        assertThatThrownBy(() -> view.setName("Batman Begins"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.at(10))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Catalog must use less heap than a list of MovieDTO.")
+    public void footprintTest() {
+        // Given
+        List<MovieDTO> movies = movies(100_000);
+
+        // When
+        MovieCatalog catalog = MovieCatalog.of(movies);
+
+        long listSize = GraphLayout.parseInstance(movies).totalSize();
+        long catalogSize = GraphLayout.parseInstance(catalog).totalSize();
+
+        // Then
+        assertThat(catalogSize)
+                .as("MovieCatalog bytes for %d movies, List<MovieDTO> takes %d", movies.size(), listSize)
+                .isPositive()
+                .isLessThan(listSize / 2);
+    }
+
+    private static List<MovieDTO> movies(int count) {
+        List<MovieDTO> movies = new ArrayList<>(count);
+        LocalDate firstRelease = LocalDate.of(1990, 1, 1);
+
+        for (int i = 0; i < count; i++) {
+            LocalDate releaseDate = firstRelease.plusDays(i % 12_000);
+            movies.add(MovieDTO.builder()
+                    .movieId((long) i + 1)
+                    .name("Movie " + i)
+                    // new instance per row, the way a JSON parser would hand it over
+                    .cast(new String(CASTS[i % CASTS.length]))
+                    .releaseDate(releaseDate)
+                    .year(releaseDate.getYear())
+                    .build());
+        }
+
+        return movies;
+    }
+
+    private static MovieDTO movie(String name, String cast, Integer year) {
+        return MovieDTO.builder()
+                .movieId(1L)
+                .name(name)
+                .cast(cast)
+                .year(year)
+                .releaseDate(LocalDate.of(2005, 6, 15))
+                .build();
+    }
+}
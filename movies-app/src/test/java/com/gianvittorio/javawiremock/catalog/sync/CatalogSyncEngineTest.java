@@ -0,0 +1,166 @@
+package com.gianvittorio.javawiremock.catalog.sync;
+
+import com.gianvittorio.javawiremock.catalog.MovieCatalog;
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.apache.http.HttpHeaders;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MoviesWireMockTest
+public class CatalogSyncEngineTest {
+    private static final String CATALOG_SCENARIO = "Catalog versions";
+
+    private MovieCatalog catalog;
+
+    private CatalogSyncEngine syncEngine;
+
+    private List<CatalogChange> changes;
+
+    WireMockServer wireMockServer;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer, MoviesRestClientImpl moviesRestClient) {
+        this.wireMockServer = wireMockServer;
+
+        catalog = new MovieCatalog();
+        changes = new ArrayList<>();
+        syncEngine = new CatalogSyncEngine(moviesRestClient, catalog);
+        syncEngine.addListener(changes::add);
+    }
+
+    @Test
+    @DisplayName("Must apply only the differences between successive catalog versions.")
+    public void syncSuccessiveVersionsTest() {
+        // Given
+        stubCatalogVersion(Scenario.STARTED, "catalog-v1.json", "v2");
+        stubCatalogVersion("v2", "catalog-v2.json", "v2");
+
+        // When
+        SyncSummary first = syncEngine.sync();
+        changes.clear();
+        SyncSummary second = syncEngine.sync();
+
+        // Then
+        assertThat(first)
+                .isEqualTo(new SyncSummary(3, 0, 0, 0));
+        assertThat(second)
+                .isEqualTo(new SyncSummary(1, 1, 1, 1));
+        assertThat(changes)
+                .extracting(CatalogChange::getType, CatalogChange::getMovieId)
+                .containsExactly(
+                        tuple(CatalogChange.Type.UPDATED, 3L),
+                        tuple(CatalogChange.Type.INSERTED, 4L),
+                        tuple(CatalogChange.Type.DELETED, 2L)
+                );
+        assertThat(catalog.size())
+                .isEqualTo(3);
+        assertThat(catalog.rowOf(2L))
+                .isEqualTo(MovieCatalog.NO_ROW);
+        assertThat(catalog.get(catalog.rowOf(3L)).getCast())
+                .isEqualTo("Christian Bale, Tom Hardy , Anne Hathaway");
+    }
+
+    @Test
+    @DisplayName("Must not report changes when the catalog is unchanged.")
+    public void syncUnchangedTest() {
+        // Given
+        stubCatalogVersion(Scenario.STARTED, "catalog-v1.json", Scenario.STARTED);
+        syncEngine.sync();
+        changes.clear();
+
+        // When
+        SyncSummary summary = syncEngine.sync();
+
+        // Then
+        assertThat(summary)
+                .isEqualTo(new SyncSummary(0, 0, 0, 3));
+        assertThat(changes)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Must apply an update whose strings share a hash code with the local row.")
+    public void syncHashCollisionTest() {
+        // Given
+        catalog.put(MovieDTO.builder()
+                .movieId(1L)
+                .name("Batman Begins")
+                .cast("Aa")
+                .year(2005)
+                .releaseDate(LocalDate.of(2005, 6, 15))
+                .build());
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody("[{\"movie_id\":1,\"name\":\"Batman Begins\",\"year\":2005,"
+                                                + "\"cast\":\"BB\",\"release_date\":\"2005-06-15\"}]")
+                        )
+        );
+
+        // When
+        SyncSummary summary = syncEngine.sync();
+
+        // Then
+        assertThat(summary)
+                .isEqualTo(new SyncSummary(0, 1, 0, 0));
+        assertThat(catalog.cast(catalog.rowOf(1L)))
+                .isEqualTo("BB");
+    }
+
+    @Test
+    @DisplayName("Must keep the local catalog when the upstream catalog fails.")
+    public void syncFailureTest() {
+        // Given
+        stubCatalogVersion(Scenario.STARTED, "catalog-v1.json", "unavailable");
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .inScenario(CATALOG_SCENARIO)
+                        .whenScenarioStateIs("unavailable")
+                        .willReturn(
+                                serverError()
+                                        .withStatus(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        )
+        );
+        syncEngine.sync();
+
+        // Then
+        assertThrows(MovieErrorResponse.class, () -> syncEngine.sync());
+        assertThat(catalog.size())
+                .isEqualTo(3);
+    }
+
+    private void stubCatalogVersion(String state, String bodyFile, String nextState) {
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .inScenario(CATALOG_SCENARIO)
+                        .whenScenarioStateIs(state)
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(MovieFixtures.body(bodyFile))
+                        )
+                        .willSetStateTo(nextState)
+        );
+    }
+}
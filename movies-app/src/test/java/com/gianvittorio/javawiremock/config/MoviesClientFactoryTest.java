@@ -0,0 +1,112 @@
+package com.gianvittorio.javawiremock.config;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.HttpHeaders;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MoviesWireMockTest(verbose = false)
+public class MoviesClientFactoryTest {
+    WireMockServer wireMockServer;
+
+    static byte[] largeCatalog;
+
+    @BeforeAll
+    public static void bootstrap() throws Exception {
+        List<MovieDTO> movies = LongStream.rangeClosed(1, 5_000)
+                .mapToObj(id -> MovieDTO.builder()
+                        .movieId(id)
+                        .name("Movie " + id)
+                        .cast("Christian Bale, Heath Ledger , Michael Caine")
+                        .year(2000 + (int) (id % 20))
+                        .releaseDate(LocalDate.of(2000, 1, 1).plusDays(id))
+                        .build())
+                .collect(Collectors.toList());
+        largeCatalog = MoviesObjectMapper.shared().writeValueAsBytes(movies);
+    }
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(largeCatalog)
+                        )
+        );
+    }
+
+    @Test
+    @DisplayName("Must decode a catalog larger than the default in-memory buffer limit.")
+    public void decodeLargeCatalogTest() {
+        // Given
+        assertThat(largeCatalog.length).isGreaterThan(256 * 1024);
+
+        MoviesRestClient moviesRestClient = MoviesClientFactory.moviesRestClient(options().build());
+
+        // When
+        List<MovieDTO> movies = moviesRestClient.retrieveAllMovies();
+
+        // Then
+        assertThat(movies)
+                .hasSize(5_000)
+                .first()
+                .extracting(MovieDTO::getReleaseDate)
+                .isEqualTo(LocalDate.of(2000, 1, 2));
+    }
+
+    @Test
+    @DisplayName("Must fail once the catalog exceeds the configured in-memory buffer limit.")
+    public void decodeBeyondMaxInMemorySizeTest() {
+        // Given
+        MoviesRestClient moviesRestClient = MoviesClientFactory.moviesRestClient(options()
+                .maxInMemorySize(64 * 1024)
+                .build());
+
+        // Then
+        assertThrows(MovieErrorResponse.class, moviesRestClient::retrieveAllMovies);
+    }
+
+    @Test
+    @DisplayName("Must decode the same catalog with Blackbird registered.")
+    public void decodeWithBlackbirdTest() {
+        // Given
+        MoviesRestClient moviesRestClient = MoviesClientFactory.moviesRestClient(options()
+                .jacksonAccelerator(JacksonAccelerator.BLACKBIRD)
+                .build());
+
+        // When
+        List<MovieDTO> movies = moviesRestClient.retrieveAllMovies();
+
+        // Then
+        assertThat(movies)
+                .hasSize(5_000)
+                .last()
+                .extracting(MovieDTO::getMovieId)
+                .isEqualTo(5_000L);
+    }
+
+    private static MoviesClientOptions.MoviesClientOptionsBuilder options() {
+        return MoviesClientOptions.builder()
+                .baseUrl(wireMockServer.baseUrl() + "/");
+    }
+}
@@ -0,0 +1,170 @@
+package com.gianvittorio.javawiremock.jfr;
+
+import com.gianvittorio.javawiremock.config.JacksonAccelerator;
+import com.gianvittorio.javawiremock.config.MoviesClientFactory;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.config.WireFormat;
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MovieStubs;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Recordings see the events of the whole JVM, so this class does not run alongside other test classes.
+ */
+@Isolated
+@MoviesWireMockTest(verbose = false)
+public class ClientEventsTest {
+    WireMockServer wireMockServer;
+
+    MoviesRestClient moviesRestClient;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+
+        moviesRestClient = MoviesClientFactory.moviesRestClient(
+                MoviesClientOptions.builder()
+                        .baseUrl(wireMockServer.baseUrl() + "/")
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("Must record the call, its decode and the pool acquire of an operation.")
+    public void recordCallEventsTest() throws Exception {
+        // Given
+        MovieStubs.CATALOG.registerOn(wireMockServer);
+        long catalogBytes = MovieFixtures.body("all-movies.json").length;
+
+        // When
+        List<RecordedEvent> events = record(() -> moviesRestClient.retrieveAllMovies());
+
+        // Then
+        assertThat(events(events, MovieClientCallEvent.NAME))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("operation")).isEqualTo("retrieveAllMovies");
+                    assertThat(event.getInt("status")).isEqualTo(HttpStatus.OK.value());
+                    assertThat(event.getLong("bytes")).isEqualTo(catalogBytes);
+                    assertThat(event.getString("outcome")).isEqualTo("success");
+                    assertThat(event.getDuration()).isPositive();
+                });
+        assertThat(events(events, MovieDecodeEvent.NAME))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("operation")).isEqualTo("retrieveAllMovies");
+                    assertThat(event.getLong("bytes")).isEqualTo(catalogBytes);
+                    assertThat(event.getString("outcome")).isEqualTo("success");
+                });
+        assertThat(events(events, PoolAcquireEvent.NAME))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getString("operation")).isEqualTo("retrieveAllMovies"));
+    }
+
+    @Test
+    @DisplayName("Must record the decode of a Smile body like a JSON one.")
+    public void recordSmileDecodeTest() throws Exception {
+        // Given
+        byte[] body = MoviesObjectMapper.create(WireFormat.SMILE, JacksonAccelerator.NONE)
+                .writeValueAsBytes(List.of(new MovieDTO(1L, "Christian Bale", "Batman Begins", LocalDate.of(2005, 6, 15), 2005)));
+        wireMockServer.stubFor(get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, WireFormat.SMILE.getMediaType())
+                        .withBody(body)));
+
+        MoviesRestClient smileClient = MoviesClientFactory.moviesRestClient(
+                MoviesClientOptions.builder()
+                        .baseUrl(wireMockServer.baseUrl() + "/")
+                        .wireFormats(Arrays.asList(WireFormat.SMILE, WireFormat.JSON))
+                        .build()
+        );
+
+        // When
+        List<RecordedEvent> events = record(() -> assertThat(smileClient.retrieveAllMovies()).hasSize(1));
+
+        // Then
+        assertThat(events(events, MovieClientCallEvent.NAME))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getLong("bytes")).isEqualTo(body.length));
+        assertThat(events(events, MovieDecodeEvent.NAME))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("operation")).isEqualTo("retrieveAllMovies");
+                    assertThat(event.getLong("bytes")).isEqualTo(body.length);
+                    assertThat(event.getString("outcome")).isEqualTo("success");
+                });
+    }
+
+    @Test
+    @DisplayName("Must record a failed call with its status.")
+    public void recordFailedCallTest() throws Exception {
+        // Given
+        MovieStubs.MOVIE_NOT_FOUND.registerOn(wireMockServer);
+
+        // When
+        List<RecordedEvent> events = record(() -> assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100L)));
+
+        // Then
+        assertThat(events(events, MovieClientCallEvent.NAME))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("operation")).isEqualTo("retrieveMovieById");
+                    assertThat(event.getInt("status")).isEqualTo(HttpStatus.NOT_FOUND.value());
+                    assertThat(event.getString("outcome")).isEqualTo("error");
+                });
+    }
+
+    private static List<RecordedEvent> record(Runnable calls) throws Exception {
+        Path file = Files.createTempFile("movies-client", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(MovieClientCallEvent.NAME);
+            recording.enable(MovieDecodeEvent.NAME);
+            recording.enable(PoolAcquireEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            calls.run();
+
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,133 @@
+package com.gianvittorio.javawiremock.metrics;
+
+import com.gianvittorio.javawiremock.config.MoviesClientFactory;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.support.MovieStubs;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.gianvittorio.javawiremock.support.MovieFixtures.json;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MoviesWireMockTest(verbose = false)
+public class ClientMetricsTest {
+    static final int CATALOG_DELAY_MILLIS = 200;
+
+    WireMockServer wireMockServer;
+
+    List<CallTimeline> slowCalls;
+
+    ClientMetrics clientMetrics;
+
+    MoviesRestClient moviesRestClient;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .willReturn(json("all-movies.json").withFixedDelay(CATALOG_DELAY_MILLIS))
+        );
+
+        slowCalls = new CopyOnWriteArrayList<>();
+        clientMetrics = new ClientMetrics(Duration.ofMillis(CATALOG_DELAY_MILLIS / 2), slowCalls::add);
+
+        moviesRestClient = MoviesClientFactory.moviesRestClient(
+                MoviesClientOptions.builder()
+                        .baseUrl(wireMockServer.baseUrl() + "/")
+                        .metrics(clientMetrics)
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("Must record each call in the histogram of its operation.")
+    public void recordLatencyPerOperationTest() {
+        // Given
+        MovieStubs.MOVIE_BY_ID.registerOn(wireMockServer);
+
+        // When
+        moviesRestClient.retrieveAllMovies();
+        moviesRestClient.retrieveMovieById(1L);
+        moviesRestClient.retrieveMovieById(2L);
+
+        // Then
+        Map<String, Histogram> snapshot = clientMetrics.intervalSnapshot();
+
+        assertThat(snapshot).containsOnlyKeys("retrieveAllMovies", "retrieveMovieById");
+        assertThat(snapshot.get("retrieveAllMovies").getTotalCount()).isEqualTo(1);
+        assertThat(snapshot.get("retrieveAllMovies").getMinValue())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(CATALOG_DELAY_MILLIS));
+        assertThat(snapshot.get("retrieveMovieById").getTotalCount()).isEqualTo(2);
+
+        assertThat(clientMetrics.intervalSnapshot().values())
+                .allSatisfy(histogram -> assertThat(histogram.getTotalCount()).isZero());
+    }
+
+    @Test
+    @DisplayName("Must report calls over the threshold with the time spent waiting on the server.")
+    public void reportSlowCallTest() {
+        // Given
+        MovieStubs.MOVIE_BY_ID.registerOn(wireMockServer);
+
+        // When
+        moviesRestClient.retrieveMovieById(1L);
+        moviesRestClient.retrieveAllMovies();
+
+        // Then
+        assertThat(slowCalls).hasSize(1);
+
+        CallTimeline timeline = slowCalls.get(0);
+        assertThat(timeline.getOperation()).isEqualTo("retrieveAllMovies");
+        assertThat(timeline.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(timeline.getOutcome()).isEqualTo("success");
+        assertThat(timeline.getTimeToFirstByteNanos())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(CATALOG_DELAY_MILLIS));
+        assertThat(timeline.getRequestWriteNanos()).isNotNegative();
+        assertThat(timeline.getBodyDecodeNanos()).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("Must record failed calls with their status.")
+    public void recordFailedCallTest() {
+        // Given
+        MovieStubs.MOVIE_NOT_FOUND.registerOn(wireMockServer);
+        clientMetrics = new ClientMetrics(Duration.ZERO, slowCalls::add);
+        moviesRestClient = MoviesClientFactory.moviesRestClient(
+                MoviesClientOptions.builder()
+                        .baseUrl(wireMockServer.baseUrl() + "/")
+                        .metrics(clientMetrics)
+                        .build()
+        );
+
+        // When
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100L));
+
+        // Then
+        assertThat(clientMetrics.intervalSnapshot().get("retrieveMovieById").getTotalCount()).isEqualTo(1);
+        assertThat(slowCalls)
+                .singleElement()
+                .satisfies(timeline -> {
+                    assertThat(timeline.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+                    assertThat(timeline.getOutcome()).isEqualTo("error");
+                });
+    }
+}
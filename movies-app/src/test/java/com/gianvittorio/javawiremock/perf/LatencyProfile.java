@@ -0,0 +1,44 @@
+package com.gianvittorio.javawiremock.perf;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+/**
+ * Server side latency distributions replayed through WireMock delays.
+ */
+public enum LatencyProfile {
+    /**
+     * No server delay, so client overhead dominates and a client regression is not hidden by service latency.
+     */
+    NONE {
+        @Override
+        public ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response) {
+            return response;
+        }
+    },
+    /**
+     * Typical service latency, median 40 ms with a long tail (p99 around 100 ms).
+     */
+    LOG_NORMAL {
+        @Override
+        public ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response) {
+            return response.withLogNormalRandomDelay(40, 0.4);
+        }
+    },
+    UNIFORM {
+        @Override
+        public ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response) {
+            return response.withUniformRandomDelay(10, 60);
+        }
+    },
+    /**
+     * Body sent in chunks spread over 80 ms, as from a slow or congested link.
+     */
+    DRIBBLE {
+        @Override
+        public ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response) {
+            return response.withChunkedDribbleDelay(8, 80);
+        }
+    };
+
+    public abstract ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response);
+}
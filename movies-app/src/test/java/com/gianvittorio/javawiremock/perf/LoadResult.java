@@ -0,0 +1,39 @@
+package com.gianvittorio.javawiremock.perf;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of one load run, sorted, with the wall-clock time the run took.
+ */
+public class LoadResult {
+    private final long[] latencyNanos;
+
+    private final long elapsedNanos;
+
+    LoadResult(long[] latencyNanos, long elapsedNanos) {
+        this.latencyNanos = latencyNanos.clone();
+        Arrays.sort(this.latencyNanos);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getCalls() {
+        return latencyNanos.length;
+    }
+
+    public double percentileMillis(double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * latencyNanos.length) - 1;
+
+        return latencyNanos[Math.max(0, Math.min(index, latencyNanos.length - 1))] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getThroughput() {
+        return latencyNanos.length / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d calls, p50 %.1f ms, p99 %.1f ms, %.1f calls/s",
+                getCalls(), percentileMillis(50), percentileMillis(99), getThroughput());
+    }
+}
@@ -0,0 +1,44 @@
+package com.gianvittorio.javawiremock.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-model load: a fixed number of threads issue blocking calls back to back until the call budget is spent.
+ */
+public class LoadRunner {
+    private final int threads;
+
+    public LoadRunner(int threads) {
+        this.threads = threads;
+    }
+
+    public LoadResult run(int calls, Runnable call) throws InterruptedException, ExecutionException {
+        long[] latencies = new long[calls];
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            long start = System.nanoTime();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    for (int index = next.getAndIncrement(); index < calls; index = next.getAndIncrement()) {
+                        long callStart = System.nanoTime();
+                        call.run();
+                        latencies[index] = System.nanoTime() - callStart;
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+
+            return new LoadResult(latencies, System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.gianvittorio.javawiremock.perf;
+
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.gianvittorio.javawiremock.support.ChaosOutcome;
+import com.gianvittorio.javawiremock.support.ChaosOutcome.ClientOutcome;
+import com.gianvittorio.javawiremock.support.ChaosResponseTransformer;
+import com.gianvittorio.javawiremock.support.ChaosSchedule;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.*;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Soak test: {@value #THREADS} threads call the client for {@code -Dsoak.duration} (ISO-8601, default PT30S) while the
+ * server injects a weighted mix of faults. Every call must be surfaced as the class of failure the server injected,
+ * the pool must not leak connections and the heap must not keep growing.
+ */
+@MoviesWireMockTest(verbose = false, extensions = ChaosResponseTransformer.class)
+public class MoviesRestClientChaosPerfTest {
+    private static final int THREADS = 16;
+
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    private final ChaosSchedule schedule = ChaosSchedule.defaults(Long.getLong("soak.seed", 42L));
+
+    private final Duration soakDuration = Duration.parse(System.getProperty("soak.duration", "PT30S"));
+
+    private ConnectionProvider connectionProvider;
+
+    private MoviesRestClient moviesRestClient;
+
+    WireMockServer wireMockServer;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+
+        // As many connections as threads with a short acquire timeout, so a single leaked connection shows up as
+        // transport errors on calls that should have succeeded.
+        connectionProvider = ConnectionProvider.builder("chaos-soak")
+                .maxConnections(THREADS)
+                .pendingAcquireTimeout(Duration.ofSeconds(2))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .responseTimeout(Duration.ofSeconds(2));
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(wireMockServer.baseUrl() + "/")
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        moviesRestClient = new MoviesRestClientImpl(webClient);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionProvider.disposeLater().block();
+    }
+
+    @Test
+    @DisplayName("Must classify every injected fault and degrade gracefully under sustained failure.")
+    public void soakTest() throws Exception {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(
+                                MovieFixtures.json("movie.json")
+                                        .withTransformers(ChaosResponseTransformer.NAME)
+                                        .withTransformerParameters(schedule.toParameters())
+                        )
+        );
+
+        long heapBefore = usedHeapAfterGc();
+
+        // When
+        SoakResult result = soak();
+
+        // Then
+        System.out.println(result);
+
+        // The WireMock request journal lives in the same heap and is not the client's to account for.
+        wireMockServer.resetRequests();
+
+        assertThat(result.misclassified)
+                .as("calls surfaced differently from the injected fault")
+                .isEmpty();
+        assertThat(result.outcomes.keySet())
+                .as("outcomes served during the soak")
+                .containsExactlyInAnyOrder(ChaosOutcome.values());
+        assertThat(result.getThroughput())
+                .isGreaterThan(0);
+
+        assertThat(usedHeapAfterGc() - heapBefore)
+                .as("heap growth (bytes)")
+                .isLessThan(MAX_HEAP_GROWTH_BYTES);
+
+        assertNoLeakedConnections();
+    }
+
+    /**
+     * Once the faults stop, as many concurrent calls as the pool has connections must all get one.
+     */
+    private void assertNoLeakedConnections() throws Exception {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(
+                get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(MovieFixtures.json("movie.json").withFixedDelay(200))
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                calls.add(executor.submit(() -> moviesRestClient.retrieveMovieById(1L)));
+            }
+            for (Future<?> call : calls) {
+                call.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SoakResult soak() throws Exception {
+        SoakResult result = new SoakResult();
+        AtomicLong sequence = new AtomicLong();
+        long deadline = System.nanoTime() + soakDuration.toNanos();
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long movieId = sequence.incrementAndGet();
+                        ChaosOutcome injected = schedule.outcome(movieId);
+
+                        ClientOutcome observed;
+                        try {
+                            moviesRestClient.retrieveMovieById(movieId);
+                            observed = ClientOutcome.OK;
+                        } catch (RuntimeException e) {
+                            observed = classify(e);
+                        }
+
+                        result.record(movieId, injected, observed);
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+
+        return result;
+    }
+
+    private static ClientOutcome classify(RuntimeException e) {
+        Throwable cause = e instanceof MovieErrorResponse && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof WebClientResponseException) {
+            return ClientOutcome.HTTP_ERROR;
+        }
+        if (cause instanceof CodecException) {
+            return ClientOutcome.DECODE_ERROR;
+        }
+
+        return ClientOutcome.TRANSPORT_ERROR;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        System.gc();
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static class SoakResult {
+        private final Map<ChaosOutcome, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+        private final Map<Long, String> misclassified = new ConcurrentSkipListMap<>();
+
+        private final LongAdder calls = new LongAdder();
+
+        private long elapsedNanos;
+
+        void record(long movieId, ChaosOutcome injected, ClientOutcome observed) {
+            calls.increment();
+            outcomes.computeIfAbsent(injected, outcome -> new LongAdder()).increment();
+            if (observed != injected.getExpected()) {
+                misclassified.put(movieId, injected + " surfaced as " + observed);
+            }
+        }
+
+        double getThroughput() {
+            return calls.sum() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d calls, %.1f calls/s, served %s, %d misclassified %s",
+                    calls.sum(), getThroughput(), new TreeMap<>(outcomes), misclassified.size(),
+                    misclassified.entrySet().stream().limit(10).collect(Collectors.toList()));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.gianvittorio.javawiremock.perf;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.*;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MoviesWireMockTest(verbose = false)
+public class MoviesRestClientPerfTest {
+    private static final int THREADS = 16;
+
+    private static final int WARMUP_CALLS = 200;
+
+    private static final int CALLS = 1_000;
+
+    private static final PerfBaseline baseline = new PerfBaseline();
+
+    private final LoadRunner loadRunner = new LoadRunner(THREADS);
+
+    private MoviesRestClient moviesRestClient;
+
+    WireMockServer wireMockServer;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer, MoviesRestClient moviesRestClient) {
+        this.wireMockServer = wireMockServer;
+        this.moviesRestClient = moviesRestClient;
+    }
+
+    @AfterAll
+    public static void tearDownAll() throws Exception {
+        baseline.writeMeasured();
+    }
+
+    @Test
+    @DisplayName("Retrieve all movies must keep up with log-normal service latency.")
+    public void retrieveAllMoviesLogNormalTest() throws Exception {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .willReturn(LatencyProfile.LOG_NORMAL.apply(MovieFixtures.json("all-movies.json")))
+        );
+
+        // When
+        LoadResult result = measure(() -> assertThat(moviesRestClient.retrieveAllMovies()).isNotEmpty());
+
+        // Then
+        baseline.check("retrieveAllMovies.logNormal", result);
+    }
+
+    @Test
+    @DisplayName("Retrieve movie by id must keep its client overhead without service latency.")
+    public void retrieveMovieByIdNoDelayTest() throws Exception {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(LatencyProfile.NONE.apply(MovieFixtures.json("movie.json")))
+        );
+
+        // When
+        LoadResult result = measure(() -> assertThat(moviesRestClient.retrieveMovieById(1L)).isNotNull());
+
+        // Then
+        baseline.check("retrieveMovieById.noDelay", result);
+    }
+
+    @Test
+    @DisplayName("Retrieve movie by id must keep up with uniform service latency.")
+    public void retrieveMovieByIdUniformTest() throws Exception {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(LatencyProfile.UNIFORM.apply(MovieFixtures.json("movie.json")))
+        );
+
+        // When
+        LoadResult result = measure(() -> assertThat(moviesRestClient.retrieveMovieById(1L)).isNotNull());
+
+        // Then
+        baseline.check("retrieveMovieById.uniform", result);
+    }
+
+    @Test
+    @DisplayName("Retrieve movies by year must keep up with a dribbled response body.")
+    public void retrieveMoviesByYearDribbleTest() throws Exception {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_MOVIE_BY_YEAR_V1))
+                        .willReturn(LatencyProfile.DRIBBLE.apply(MovieFixtures.json("movie-ByYear.json")))
+        );
+
+        // When
+        LoadResult result = measure(() -> assertThat(moviesRestClient.retrieveMoviesByYear(2012)).isNotEmpty());
+
+        // Then
+        baseline.check("retrieveMoviesByYear.dribble", result);
+    }
+
+    private LoadResult measure(Runnable call) throws Exception {
+        loadRunner.run(WARMUP_CALLS, call);
+
+        return loadRunner.run(CALLS, call);
+    }
+}
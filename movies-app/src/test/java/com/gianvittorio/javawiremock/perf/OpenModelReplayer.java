@@ -0,0 +1,114 @@
+package com.gianvittorio.javawiremock.perf;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays a {@link TrafficTimeline} as an open model: every request is sent at its recorded offset, whether or not
+ * earlier ones have completed, so a slow client queues work up the way it would in production. Latency is measured
+ * from the intended send time, so it includes any delay in getting the request out. Recorded request bodies are sent
+ * with their content type. Responses outside 2xx count as errors along with transport failures, so a replay that no
+ * longer matches the recorded mappings does not pass as fast 404s.
+ */
+public class OpenModelReplayer {
+    private final WebClient webClient;
+
+    private final String baseUrl;
+
+    private final double speed;
+
+    /**
+     * @param speed replay rate relative to the recording, {@code 2} sends twice as fast
+     */
+    public OpenModelReplayer(WebClient webClient, String baseUrl, double speed) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.speed = speed;
+    }
+
+    public Replay replay(TrafficTimeline timeline) {
+        List<TrafficTimeline.Arrival> arrivals = timeline.getArrivals();
+        long[] latencies = new long[arrivals.size()];
+        AtomicLong errors = new AtomicLong();
+        AtomicLong bytes = new AtomicLong();
+
+        long start = System.nanoTime();
+        Flux.range(0, arrivals.size())
+                .flatMap(index -> {
+                    TrafficTimeline.Arrival arrival = arrivals.get(index);
+                    long intendedNanos = (long) (arrival.getOffsetMicros() * 1_000 / speed);
+
+                    return Mono.delay(Duration.ofNanos(intendedNanos))
+                            .then(send(arrival))
+                            .doOnNext(bytes::addAndGet)
+                            .onErrorResume(e -> {
+                                errors.incrementAndGet();
+                                return Mono.empty();
+                            })
+                            .then(Mono.fromRunnable(() -> latencies[index] = System.nanoTime() - start - intendedNanos));
+                }, Integer.MAX_VALUE)
+                .blockLast();
+
+        return new Replay(new LoadResult(latencies, System.nanoTime() - start), errors.get(), bytes.get());
+    }
+
+    private Mono<Long> send(TrafficTimeline.Arrival arrival) {
+        WebClient.RequestBodySpec spec = webClient.method(HttpMethod.valueOf(arrival.getMethod()))
+                .uri(URI.create(baseUrl + arrival.getUrl()));
+        if (arrival.getContentType() != null) {
+            spec = spec.contentType(MediaType.parseMediaType(arrival.getContentType()));
+        }
+        WebClient.RequestHeadersSpec<?> request = arrival.hasBody() ? spec.bodyValue(arrival.getBody()) : spec;
+
+        return request.exchangeToMono(response -> {
+            int status = response.rawStatusCode();
+            if (status < 200 || status >= 300) {
+                return response.releaseBody()
+                        .then(Mono.<Long>error(new IllegalStateException(arrival.getMethod() + " " + arrival.getUrl() + " answered " + status)));
+            }
+
+            return response.bodyToMono(byte[].class)
+                    .map(body -> (long) body.length)
+                    .defaultIfEmpty(0L);
+        });
+    }
+
+    public static class Replay {
+        private final LoadResult result;
+
+        private final long errors;
+
+        private final long bytes;
+
+        Replay(LoadResult result, long errors, long bytes) {
+            this.result = result;
+            this.errors = errors;
+            this.bytes = bytes;
+        }
+
+        public LoadResult getResult() {
+            return result;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return result + ", " + errors + " errors, " + bytes + " body bytes";
+        }
+    }
+}
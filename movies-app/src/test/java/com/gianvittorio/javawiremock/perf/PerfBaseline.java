@@ -0,0 +1,85 @@
+package com.gianvittorio.javawiremock.perf;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Stored p99 (ms) and throughput (calls/s) per scenario. A run fails when p99 grows, or throughput drops, by more
+ * than {@code perf.tolerance}; p99 also gets {@code perf.slackMillis} of absolute slack so sub-millisecond scenarios
+ * are not failed by scheduler noise. With {@code -Dperf.record=true} measurements are collected instead of checked and
+ * written to {@code perf.output}. A scenario without a recorded baseline is skipped until one is recorded.
+ */
+public class PerfBaseline {
+    private static final String RESOURCE = "perf/perf-baseline.properties";
+
+    private final Properties baseline = new Properties();
+
+    private final Properties measured = new Properties();
+
+    private final boolean record = Boolean.getBoolean("perf.record");
+
+    public PerfBaseline() {
+        try (InputStream in = PerfBaseline.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("No " + RESOURCE + " on the test classpath");
+            }
+            baseline.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void check(String scenario, LoadResult result) {
+        System.out.println(scenario + ": " + result);
+
+        measured.setProperty(scenario + ".p99", String.format("%.1f", result.percentileMillis(99)));
+        measured.setProperty(scenario + ".throughput", String.format("%.1f", result.getThroughput()));
+        if (record) {
+            return;
+        }
+
+        assumeTrue(baseline.containsKey(scenario + ".p99") && baseline.containsKey(scenario + ".throughput"),
+                () -> "No baseline for " + scenario + " in " + RESOURCE + ", record one with -Dperf.record=true");
+
+        double tolerance = Double.parseDouble(baseline.getProperty("perf.tolerance", "0.25"));
+        double slackMillis = Double.parseDouble(baseline.getProperty("perf.slackMillis", "1.0"));
+        assertThat(result.percentileMillis(99))
+                .as("%s p99 (ms)", scenario)
+                .isLessThanOrEqualTo(value(scenario + ".p99") * (1 + tolerance) + slackMillis);
+        assertThat(result.getThroughput())
+                .as("%s throughput (calls/s)", scenario)
+                .isGreaterThanOrEqualTo(value(scenario + ".throughput") * (1 - tolerance));
+    }
+
+    public void writeMeasured() throws IOException {
+        String output = System.getProperty("perf.output");
+        if (!record || output == null) {
+            return;
+        }
+
+        Path path = Paths.get(output);
+        Properties recorded = new Properties();
+        recorded.putAll(baseline);
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                recorded.load(reader);
+            }
+        }
+        recorded.putAll(measured);
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            recorded.store(writer, "Recorded by " + PerfBaseline.class.getSimpleName());
+        }
+    }
+
+    private double value(String key) {
+        return Double.parseDouble(baseline.getProperty(key));
+    }
+}
@@ -0,0 +1,77 @@
+package com.gianvittorio.javawiremock.perf;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Paths;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays recorded traffic as an open-model load against WireMock serving the recorded responses. Uses the bundled
+ * {@value #SAMPLE} recording, or one made with {@link TrafficRecorder} given as {@code -Dreplay.dir}.
+ * {@code -Dreplay.speed} scales the arrival rate (default 2).
+ */
+public class RecordedTrafficReplayPerfTest {
+    private static final String SAMPLE = "replay/sample";
+
+    private static final PerfBaseline baseline = new PerfBaseline();
+
+    private final String replayDir = System.getProperty("replay.dir");
+
+    private final double speed = Double.parseDouble(System.getProperty("replay.speed", "2"));
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    public void setUp() {
+        WireMockConfiguration configuration = wireMockConfig()
+                .dynamicPort()
+                .disableRequestJournal();
+        wireMockServer = new WireMockServer(replayDir == null
+                ? configuration.usingFilesUnderClasspath(SAMPLE)
+                : configuration.usingFilesUnderDirectory(replayDir));
+        wireMockServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @AfterAll
+    public static void tearDownAll() throws Exception {
+        baseline.writeMeasured();
+    }
+
+    @Test
+    @DisplayName("Must keep up with the recorded production request mix.")
+    public void replayTest() throws Exception {
+        // Given
+        TrafficTimeline timeline = replayDir == null
+                ? TrafficTimeline.readClasspath(SAMPLE)
+                : TrafficTimeline.read(Paths.get(replayDir));
+
+        WebClient webClient = WebClient.builder()
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        // When
+        OpenModelReplayer.Replay replay = new OpenModelReplayer(webClient, wireMockServer.baseUrl(), speed)
+                .replay(timeline);
+
+        // Then
+        System.out.println("Replayed " + timeline.getArrivals().size() + " requests recorded over " + timeline.getDuration() + ": " + replay);
+
+        assertThat(replay.getErrors())
+                .isZero();
+        if (replayDir == null) {
+            baseline.check("replay.sample", replay.getResult());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.gianvittorio.javawiremock.perf;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.service.StreamingMoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.gianvittorio.javawiremock.support.SyntheticCatalog;
+import com.gianvittorio.javawiremock.support.SyntheticCatalogTransformer;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streams a {@code -Dcatalog.size} (default 1,000,000) movie catalog through the client and checks that the heap
+ * retained while streaming does not grow with the catalog. The catalog is generated into a temp file once, before
+ * measuring.
+ * <p>
+ * Retention is the used heap right after a full collection, taken before the stream and at a few points along it. Peak
+ * or pool usage would mostly measure how large the collector lets the young generation grow, so it says little about
+ * what the client holds on to. The {@code perf} profile pins {@code -Xmx} so runs are comparable.
+ */
+public class SyntheticCatalogPerfTest {
+    private static final long SEED = 20210512L;
+
+    /**
+     * Well below what aggregating the default catalog would retain, which is several hundred MB.
+     */
+    private static final long MAX_RETAINED_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    private static final int RETENTION_SAMPLES = 4;
+
+    private final SyntheticCatalog catalog = new SyntheticCatalog(SEED, Long.getLong("catalog.size", 1_000_000L));
+
+    private WireMockServer wireMockServer;
+
+    private StreamingMoviesRestClient moviesRestClient;
+
+    @BeforeEach
+    public void setUp() {
+        wireMockServer = new WireMockServer(
+                wireMockConfig()
+                        .dynamicPort()
+                        .disableRequestJournal()
+                        .extensions(SyntheticCatalogTransformer.class)
+        );
+        wireMockServer.start();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl(wireMockServer.baseUrl() + "/")
+                .build();
+        moviesRestClient = new MoviesRestClientImpl(webClient);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("Must stream an NDJSON catalog in bounded memory.")
+    public void streamNdjsonCatalogTest() {
+        stream(SyntheticCatalog.Format.NDJSON, MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    @Test
+    @DisplayName("Must stream a JSON array catalog in bounded memory.")
+    public void streamJsonArrayCatalogTest() {
+        stream(SyntheticCatalog.Format.JSON_ARRAY, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private void stream(SyntheticCatalog.Format format, String contentType) {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .willReturn(
+                                aResponse()
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, contentType)
+                                        .withTransformers(SyntheticCatalogTransformer.NAME)
+                                        .withTransformerParameters(catalog.toParameters(format))
+                        )
+        );
+        catalog.file(format);
+
+        long sampleEvery = Math.max(1, catalog.getSize() / 100);
+        long retentionEvery = Math.max(1, catalog.getSize() / (RETENTION_SAMPLES + 1));
+        AtomicLong count = new AtomicLong();
+        AtomicLong maxRetained = new AtomicLong();
+        long retainedBefore = retainedHeap();
+
+        // When
+        moviesRestClient.streamAllMovies()
+                .doOnNext(movie -> {
+                    long index = count.getAndIncrement();
+                    if (index % sampleEvery == 0) {
+                        assertThat(movie).isEqualTo(catalog.movie(index));
+                    }
+                    if (index > 0 && index % retentionEvery == 0) {
+                        maxRetained.accumulateAndGet(retainedHeap(), Math::max);
+                    }
+                })
+                .blockLast();
+
+        // Then
+        long retainedGrowth = maxRetained.get() - retainedBefore;
+
+        assertThat(count.get())
+                .isEqualTo(catalog.getSize());
+        assertThat(retainedGrowth)
+                .as("%s heap retained while streaming %d movies (bytes), including the embedded WireMock", format, count.get())
+                .isLessThan(MAX_RETAINED_HEAP_GROWTH_BYTES);
+    }
+
+    /**
+     * @return - heap in use after a full collection, i.e. what is still reachable
+     */
+    private static long retainedHeap() {
+        System.gc();
+
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
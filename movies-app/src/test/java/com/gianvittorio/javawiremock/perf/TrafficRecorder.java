@@ -0,0 +1,124 @@
+package com.gianvittorio.javawiremock.perf;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilterAction;
+import com.github.tomakehurst.wiremock.extension.requestfilter.StubRequestFilter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.recording.SnapshotRecordResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.recordSpec;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Recording proxy in front of a real movies service. Responses are saved as WireMock mappings under
+ * {@code <output>/mappings} and {@code <output>/__files}, and request arrival times and bodies as a
+ * {@link TrafficTimeline}.
+ * <p>
+ * Run it with the test classpath, point the client at the printed URL, and press Enter to stop:
+ * {@code java -cp <test classpath> com.gianvittorio.javawiremock.perf.TrafficRecorder http://localhost:8081 target/recording 8089}
+ */
+public class TrafficRecorder implements AutoCloseable {
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    private final String target;
+
+    private final Path output;
+
+    private final WireMockServer proxy;
+
+    private final Queue<TrafficTimeline.Arrival> arrivals = new ConcurrentLinkedQueue<>();
+
+    private volatile long startNanos;
+
+    /**
+     * @param port where the proxy listens, {@code 0} for any free port
+     */
+    public TrafficRecorder(String target, Path output, int port) throws IOException {
+        this.target = target;
+        this.output = output;
+
+        Files.createDirectories(output.resolve("mappings"));
+        Files.createDirectories(output.resolve("__files"));
+
+        WireMockConfiguration configuration = wireMockConfig()
+                .usingFilesUnderDirectory(output.toString())
+                .extensions(new ArrivalFilter());
+        proxy = new WireMockServer(port == 0 ? configuration.dynamicPort() : configuration.port(port));
+    }
+
+    /**
+     * @return the base URL clients should call instead of the target
+     */
+    public String start() {
+        proxy.start();
+        startNanos = System.nanoTime();
+        proxy.startRecording(
+                recordSpec()
+                        .forTarget(target)
+                        .makeStubsPersistent(true)
+                        .repeatsAsScenarios(false)
+        );
+
+        return proxy.baseUrl();
+    }
+
+    public SnapshotRecordResult stop() throws IOException {
+        SnapshotRecordResult result = proxy.stopRecording();
+        new TrafficTimeline(new ArrayList<>(arrivals)).write(output);
+
+        return result;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    @Override
+    public void close() {
+        proxy.stop();
+    }
+
+    public static void main(String[] args) throws IOException {
+        String target = args.length > 0 ? args[0] : "http://localhost:8081";
+        Path output = Paths.get(args.length > 1 ? args[1] : "target/recording");
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        try (TrafficRecorder recorder = new TrafficRecorder(target, output, port)) {
+            System.out.println("Recording " + target + " through " + recorder.start() + ", press Enter to stop");
+            System.in.read();
+
+            SnapshotRecordResult result = recorder.stop();
+            System.out.println("Saved " + result.getStubMappings().size() + " mappings and " + recorder.arrivals.size() + " arrivals to " + output.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Stamps requests as they arrive, before they are proxied, so the timeline is not skewed by the target's latency.
+     */
+    private class ArrivalFilter extends StubRequestFilter {
+        @Override
+        public RequestFilterAction filter(Request request) {
+            long offsetMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            String contentType = request.containsHeader(CONTENT_TYPE) ? request.getHeader(CONTENT_TYPE) : null;
+            arrivals.add(new TrafficTimeline.Arrival(offsetMicros, request.getMethod().getName(), request.getUrl(),
+                    contentType, request.getBody()));
+
+            return RequestFilterAction.continueWith(request);
+        }
+
+        @Override
+        public String getName() {
+            return "traffic-arrivals";
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.gianvittorio.javawiremock.perf;
+
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.gianvittorio.javawiremock.support.MovieStubs;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.recording.SnapshotRecordResult;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@MoviesWireMockTest(verbose = false)
+public class TrafficRecorderTest {
+    WireMockServer wireMockServer;
+
+    @TempDir
+    Path recording;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+
+        MovieStubs.CATALOG
+                .and(MovieStubs.MOVIE_BY_ID)
+                .and(MovieStubs.WRITES)
+                .registerOn(wireMockServer);
+    }
+
+    @Test
+    @DisplayName("Must record mappings, arrivals and request bodies, and replay them against the recorded responses.")
+    public void recordAndReplayTest() throws Exception {
+        // Given
+        SnapshotRecordResult recorded;
+        try (TrafficRecorder recorder = new TrafficRecorder(wireMockServer.baseUrl(), recording, 0)) {
+            MoviesRestClient moviesRestClient = client(recorder.start());
+
+            moviesRestClient.retrieveAllMovies();
+            moviesRestClient.retrieveMovieById(1L);
+            moviesRestClient.retrieveMovieById(2L);
+            moviesRestClient.addMovie(new MovieDTO(null, "Tom Hanks", "Toy Story 4", LocalDate.of(2019, 6, 20), 2019));
+
+            recorded = recorder.stop();
+        }
+
+        WireMockServer replayServer = new WireMockServer(
+                wireMockConfig()
+                        .dynamicPort()
+                        .usingFilesUnderDirectory(recording.toString())
+        );
+        replayServer.start();
+
+        try {
+            TrafficTimeline timeline = TrafficTimeline.read(recording);
+
+            // When
+            OpenModelReplayer.Replay replay = new OpenModelReplayer(WebClient.create(), replayServer.baseUrl(), 1)
+                    .replay(timeline);
+
+            // Then
+            assertThat(recorded.getStubMappings())
+                    .hasSize(4);
+            assertThat(timeline.getArrivals())
+                    .extracting(TrafficTimeline.Arrival::getMethod, TrafficTimeline.Arrival::getUrl)
+                    .containsExactly(
+                            tuple("GET", "/movieservice/v1/allMovies"),
+                            tuple("GET", "/movieservice/v1/movie/1"),
+                            tuple("GET", "/movieservice/v1/movie/2"),
+                            tuple("POST", "/movieservice/v1/movie"));
+            assertThat(timeline.getArrivals().get(3).getContentType())
+                    .startsWith(MediaType.APPLICATION_JSON_VALUE);
+            assertThat(new String(timeline.getArrivals().get(3).getBody()))
+                    .contains("Toy Story 4");
+            assertThat(replay.getErrors())
+                    .isZero();
+            assertThat(replay.getBytes())
+                    .isPositive();
+            assertThat(replayServer.findAllUnmatchedRequests())
+                    .isEmpty();
+        } finally {
+            replayServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Must count responses outside 2xx as errors.")
+    public void errorStatusTest() {
+        // Given
+        TrafficTimeline timeline = new TrafficTimeline(List.of(
+                new TrafficTimeline.Arrival(0, "GET", "/movieservice/v1/movie/1"),
+                new TrafficTimeline.Arrival(1_000, "GET", "/movieservice/v1/movieName?movie_name=Unknown")));
+
+        // When
+        OpenModelReplayer.Replay replay = new OpenModelReplayer(WebClient.create(), wireMockServer.baseUrl(), 1)
+                .replay(timeline);
+
+        // Then
+        assertThat(replay.getErrors())
+                .isEqualTo(1);
+    }
+
+    private static MoviesRestClient client(String baseUrl) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(baseUrl + "/")
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        return new MoviesRestClientImpl(webClient);
+    }
+}
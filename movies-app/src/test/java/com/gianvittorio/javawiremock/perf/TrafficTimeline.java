@@ -0,0 +1,138 @@
+package com.gianvittorio.javawiremock.perf;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Arrival times of recorded requests, stored next to the WireMock mappings as {@value #FILE_NAME}, one
+ * {@code offsetMicros,method,contentType,bodyBase64,url} line per request. Content type and body are empty for requests
+ * without a body, the URL comes last since it may contain commas.
+ */
+public class TrafficTimeline {
+    public static final String FILE_NAME = "timeline.csv";
+
+    private static final String HEADER = "# offset_micros,method,content_type,body_base64,url";
+
+    private final List<Arrival> arrivals;
+
+    public TrafficTimeline(List<Arrival> arrivals) {
+        List<Arrival> sorted = new ArrayList<>(arrivals);
+        sorted.sort(Comparator.comparingLong(Arrival::getOffsetMicros));
+        this.arrivals = Collections.unmodifiableList(sorted);
+    }
+
+    public static TrafficTimeline read(Path directory) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(directory.resolve(FILE_NAME), StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    public static TrafficTimeline readClasspath(String directory) throws IOException {
+        String resource = directory + "/" + FILE_NAME;
+        InputStream in = TrafficTimeline.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new FileNotFoundException(resource + " is not on the test classpath");
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return read(reader);
+        }
+    }
+
+    private static TrafficTimeline read(BufferedReader reader) throws IOException {
+        List<Arrival> arrivals = new ArrayList<>();
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",", 5);
+            arrivals.add(new Arrival(Long.parseLong(fields[0]), fields[1], fields[4],
+                    fields[2].isEmpty() ? null : fields[2],
+                    Base64.getDecoder().decode(fields[3])));
+        }
+
+        return new TrafficTimeline(arrivals);
+    }
+
+    public void write(Path directory) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(FILE_NAME), StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Arrival arrival : arrivals) {
+                writer.write(arrival.getOffsetMicros() + "," + arrival.getMethod()
+                        + "," + (arrival.getContentType() == null ? "" : arrival.getContentType())
+                        + "," + Base64.getEncoder().encodeToString(arrival.getBody())
+                        + "," + arrival.getUrl());
+                writer.newLine();
+            }
+        }
+    }
+
+    public List<Arrival> getArrivals() {
+        return arrivals;
+    }
+
+    public Duration getDuration() {
+        return arrivals.isEmpty() ? Duration.ZERO : Duration.ofNanos(arrivals.get(arrivals.size() - 1).getOffsetMicros() * 1_000);
+    }
+
+    public static class Arrival {
+        private final long offsetMicros;
+
+        private final String method;
+
+        private final String url;
+
+        private final String contentType;
+
+        private final byte[] body;
+
+        public Arrival(long offsetMicros, String method, String url) {
+            this(offsetMicros, method, url, null, new byte[0]);
+        }
+
+        /**
+         * @param contentType of the body, {@code null} when the request had none
+         */
+        public Arrival(long offsetMicros, String method, String url, String contentType, byte[] body) {
+            this.offsetMicros = offsetMicros;
+            this.method = method;
+            this.url = url;
+            this.contentType = contentType;
+            this.body = body == null ? new byte[0] : body;
+        }
+
+        public long getOffsetMicros() {
+            return offsetMicros;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public boolean hasBody() {
+            return body.length > 0;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.gianvittorio.javawiremock.pipeline;
+
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class MoviePipelineTest {
+
+    @Test
+    @DisplayName("Must keep the source order when ordered.")
+    public void orderedStageTest() {
+        // Given
+        MoviePipeline<String> pipeline = MoviePipeline.from(movies(200))
+                .parallelism(8)
+                .ordered(true)
+                .stage("enrich", MoviePipelineTest::slowEnrich)
+                .stage("name", MovieDTO::getName);
+
+        // When
+        List<String> names = pipeline.flux()
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(names)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 200)
+                        .mapToObj(id -> "Movie " + id + " (enriched)")
+                        .collect(Collectors.toList()));
+        assertThat(pipeline.metrics())
+                .extracting(StageMetrics::getProcessed)
+                .containsExactly(200L, 200L);
+    }
+
+    @Test
+    @DisplayName("Must process every movie when unordered.")
+    public void unorderedStageTest() {
+        // Given
+        MoviePipeline<MovieDTO> pipeline = MoviePipeline.from(movies(200))
+                .parallelism(8)
+                .ordered(false)
+                .stage("enrich", MoviePipelineTest::slowEnrich);
+
+        // When
+        List<MovieDTO> movieDTOS = pipeline.flux()
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(movieDTOS)
+                .hasSize(200)
+                .extracting(MovieDTO::getMovieId)
+                .doesNotHaveDuplicates();
+        assertThat(pipeline.metrics().get(0).getThroughput())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Must fail with the stage name when a stage returns null in ordered mode.")
+    public void nullStageResultOrderedTest() {
+        assertNullStageResultFails(true);
+    }
+
+    @Test
+    @DisplayName("Must fail with the stage name when a stage returns null in unordered mode.")
+    public void nullStageResultUnorderedTest() {
+        assertNullStageResultFails(false);
+    }
+
+    @Test
+    @DisplayName("Must not share settings between a pipeline and the ones derived from it.")
+    public void derivedSettingsTest() {
+        // Given
+        MoviePipeline<MovieDTO> source = MoviePipeline.from(movies(20))
+                .ordered(true);
+        MoviePipeline<String> names = source.stage("name", MovieDTO::getName);
+
+        // When
+        source.ordered(false);
+        List<String> result = names.stage("upper", String::toUpperCase)
+                .flux()
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(result)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 20)
+                        .mapToObj(id -> "MOVIE " + id)
+                        .collect(Collectors.toList()));
+        assertThat(source.metrics())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Must hand movies to batch stages in lists.")
+    public void batchStageTest() {
+        // Given
+        MoviePipeline<Integer> pipeline = MoviePipeline.from(movies(95))
+                .batchStage("count", 10, batch -> Collections.singletonList(batch.size()));
+
+        // When
+        List<Integer> batchSizes = pipeline.flux()
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(batchSizes)
+                .hasSize(10)
+                .containsOnly(10, 5);
+        assertThat(pipeline.metrics().get(0).getProcessed())
+                .isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("Must only request from the source what the stages can hold.")
+    public void backpressureTest() {
+        // Given
+        AtomicLong requested = new AtomicLong();
+        AtomicLong maxOutstanding = new AtomicLong();
+        AtomicLong emitted = new AtomicLong();
+
+        Flux<MovieDTO> source = movies(10_000)
+                .doOnRequest(requested::addAndGet)
+                .doOnNext(movieDTO -> maxOutstanding.accumulateAndGet(requested.get() - emitted.incrementAndGet(), Math::max));
+
+        MoviePipeline<MovieDTO> pipeline = MoviePipeline.from(source)
+                .parallelism(2)
+                .prefetch(16)
+                .stage("enrich", MoviePipelineTest::slowEnrich);
+
+        // When
+        pipeline.flux()
+                .take(50)
+                .blockLast(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(emitted.get())
+                .isLessThan(200);
+        assertThat(maxOutstanding.get())
+                .isLessThanOrEqualTo(16);
+    }
+
+    private static void assertNullStageResultFails(boolean ordered) {
+        // Given
+        MoviePipeline<String> pipeline = MoviePipeline.from(movies(10))
+                .ordered(ordered)
+                .stage("lookup", movieDTO -> movieDTO.getMovieId() == 5L ? null : movieDTO.getName());
+
+        // When
+        Throwable failure = catchThrowable(() -> pipeline.flux()
+                .collectList()
+                .block(Duration.ofSeconds(30)));
+
+        // Then
+        assertThat(failure)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("lookup");
+    }
+
+    private static Flux<MovieDTO> movies(int count) {
+        return Flux.range(1, count)
+                .map(id -> MovieDTO.builder()
+                        .movieId((long) id)
+                        .name("Movie " + id)
+                        .cast("Christian Bale, Heath Ledger , Michael Caine")
+                        .year(2008)
+                        .build());
+    }
+
+    private static MovieDTO slowEnrich(MovieDTO movieDTO) {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return MovieDTO.builder()
+                .movieId(movieDTO.getMovieId())
+                .name(movieDTO.getName() + " (enriched)")
+                .cast(movieDTO.getCast())
+                .year(movieDTO.getYear())
+                .build();
+    }
+}
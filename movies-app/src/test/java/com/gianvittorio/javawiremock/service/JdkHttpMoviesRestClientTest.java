@@ -0,0 +1,13 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.gianvittorio.javawiremock.service.impl.JdkHttpMoviesRestClient;
+
+/**
+ * Runs the whole {@link MoviesRestClientTest} suite against the JDK {@code HttpClient} transport.
+ */
+public class JdkHttpMoviesRestClientTest extends MoviesRestClientTest {
+    @Override
+    protected MoviesRestClient createMoviesRestClient(String baseUrl) {
+        return new JdkHttpMoviesRestClient(baseUrl);
+    }
+}
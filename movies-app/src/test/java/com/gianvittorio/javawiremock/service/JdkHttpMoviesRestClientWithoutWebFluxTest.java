@@ -0,0 +1,101 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.gianvittorio.javawiremock.config.JacksonAccelerator;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.exception.MovieHttpStatusException;
+import com.gianvittorio.javawiremock.service.impl.JdkHttpMoviesRestClient;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.*;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Exercises the JDK backend through nothing but WireMock, so it also runs on the trimmed classpath of
+ * {@code mvn -Pno-webflux test}, which drops spring-web, spring-webflux, reactor-core, reactor-netty and the Jackson
+ * accelerator modules.
+ */
+public class JdkHttpMoviesRestClientWithoutWebFluxTest {
+    private static final String WEBFLUX_ABSENT = "webflux.absent";
+
+    private WireMockServer wireMockServer;
+
+    private MoviesRestClient moviesRestClient;
+
+    @BeforeEach
+    public void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+
+        moviesRestClient = new JdkHttpMoviesRestClient(wireMockServer.baseUrl());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("The no-webflux profile really removes WebFlux from the classpath.")
+    public void webFluxAbsentTest() {
+        Assumptions.assumeTrue(Boolean.getBoolean(WEBFLUX_ABSENT));
+
+        // Then
+        assertThrows(ClassNotFoundException.class,
+                () -> Class.forName("org.springframework.web.reactive.function.client.WebClient"));
+        assertThrows(ClassNotFoundException.class, () -> Class.forName("reactor.core.publisher.Mono"));
+    }
+
+    @Test
+    @DisplayName("A missing accelerator module fails with a clear message, not a NoClassDefFoundError.")
+    public void acceleratorAbsentTest() {
+        Assumptions.assumeTrue(Boolean.getBoolean(WEBFLUX_ABSENT));
+
+        // When
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> MoviesObjectMapper.create(JacksonAccelerator.BLACKBIRD));
+
+        // Then
+        assertThat(error).hasMessageContaining("jackson-module-blackbird");
+        assertThat(MoviesObjectMapper.create(JacksonAccelerator.NONE)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Retrieve movie by id without WebFlux.")
+    public void retrieveMovieByIdTest() {
+        // Given
+        wireMockServer.stubFor(get(urlPathEqualTo("/movieservice/v1/movie/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+
+        // When
+        MovieDTO movieDTO = moviesRestClient.retrieveMovieById(1L);
+
+        // Then
+        assertThat(movieDTO.getName()).isEqualTo("Batman Begins");
+    }
+
+    @Test
+    @DisplayName("Error responses map to MovieErrorResponse without WebFlux.")
+    public void retrieveMovieByIdNotFoundTest() {
+        // Given
+        wireMockServer.stubFor(get(urlPathEqualTo("/movieservice/v1/movie/100"))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("404-movieid.json")));
+
+        // When
+        MovieErrorResponse error = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100L));
+
+        // Then
+        assertThat(error.getCause()).isInstanceOf(MovieHttpStatusException.class);
+        assertThat(((MovieHttpStatusException) error.getCause()).getStatusCode()).isEqualTo(404);
+    }
+}
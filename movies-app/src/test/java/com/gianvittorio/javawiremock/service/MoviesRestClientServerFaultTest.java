@@ -2,11 +2,8 @@ package com.gianvittorio.javawiremock.service;
 
 import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
 import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
-import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
 import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
-import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import com.github.tomakehurst.wiremock.http.Fault;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
@@ -20,43 +17,20 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.tcp.TcpClient;
 
-import java.util.List;
-
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
-import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+@MoviesWireMockTest(templating = true)
 public class MoviesRestClientServerFaultTest {
     private MoviesRestClient moviesRestClient;
 
-    static int port;
-
-    static WireMockServer wireMockServer;
-
-    @BeforeAll
-    public static void bootStrap() {
-        WireMockConfiguration configuration = wireMockConfig()
-                .port(8088)
-                .notifier(new ConsoleNotifier((true)))
-                .extensions(new ResponseTemplateTransformer(true));
-
-        wireMockServer = new WireMockServer(configuration);
-
-        wireMockServer.start();
-
-        port = wireMockServer.port();
-    }
-
-    @AfterAll
-    public static void shutDown() {
-        wireMockServer.stop();
-    }
+    WireMockServer wireMockServer;
 
     @BeforeEach
-    public void setUp() {
-        wireMockServer.resetAll();
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
 
         TcpClient tcpClient = TcpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
@@ -67,7 +41,7 @@ public class MoviesRestClientServerFaultTest {
 
         WebClient webClient = WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(HttpClient.from(tcpClient)))
-                .baseUrl(String.format("http://localhost:%d/", port))
+                .baseUrl(wireMockServer.baseUrl() + "/")
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .build();
 
@@ -0,0 +1,163 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.HttpHeaders;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MoviesWireMockTest
+public class MoviesRestClientStreamingTest {
+    private MoviesRestClientImpl moviesRestClient;
+
+    WireMockServer wireMockServer;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer, MoviesRestClientImpl moviesRestClient) {
+        this.wireMockServer = wireMockServer;
+        this.moviesRestClient = moviesRestClient;
+    }
+
+    @Test
+    @DisplayName("Must stream NDJSON movies delivered in dribbled chunks.")
+    public void streamAllMoviesNdjsonTest() {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .withHeader(HttpHeaders.ACCEPT, containing(MediaType.APPLICATION_NDJSON_VALUE))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                                        .withBody(MovieFixtures.body("all-movies.ndjson"))
+                                        .withChunkedDribbleDelay(20, 1_000)
+                        )
+        );
+
+        // When
+        List<MovieDTO> movieDTOS = moviesRestClient.streamAllMovies()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(movieDTOS)
+                .hasSize(10);
+        assertThat(movieDTOS.get(0).getName())
+                .isEqualTo("Batman Begins");
+        assertThat(movieDTOS.get(9).getName())
+                .isEqualTo("The Departed");
+    }
+
+    @Test
+    @DisplayName("Must emit the first movie before the whole body has arrived.")
+    public void streamAllMoviesFirstElementTest() {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                                        .withBody(MovieFixtures.body("all-movies.ndjson"))
+                                        .withChunkedDribbleDelay(10, 3_000)
+                        )
+        );
+
+        // When
+        long start = System.nanoTime();
+        MovieDTO first = moviesRestClient.streamAllMovies()
+                .blockFirst(Duration.ofSeconds(10));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Then
+        assertThat(first.getMovieId())
+                .isEqualTo(1L);
+        assertThat(elapsedMillis)
+                .isLessThan(3_000);
+    }
+
+    @Test
+    @DisplayName("Must fall back to a JSON array when the server ignores NDJSON.")
+    public void streamMoviesByYearJsonFallbackTest() {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_MOVIE_BY_YEAR_V1))
+                        .withQueryParam("year", equalTo("2012"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(MovieFixtures.body("movie-ByYear.json"))
+                                        .withChunkedDribbleDelay(5, 500)
+                        )
+        );
+
+        // When
+        List<MovieDTO> movieDTOS = moviesRestClient.streamMoviesByYear(2012)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(movieDTOS)
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Must ask again for JSON when the server rejects NDJSON with 406 Not Acceptable.")
+    public void streamMoviesByNameNotAcceptableTest() {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_MOVIE_BY_NAME_V1))
+                        .withHeader(HttpHeaders.ACCEPT, containing(MediaType.APPLICATION_NDJSON_VALUE))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.NOT_ACCEPTABLE.value())
+                        )
+        );
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_MOVIE_BY_NAME_V1))
+                        .withHeader(HttpHeaders.ACCEPT, equalTo(MediaType.APPLICATION_JSON_VALUE))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(MovieFixtures.body("avengers.json"))
+                        )
+        );
+
+        // When
+        List<MovieDTO> movieDTOS = moviesRestClient.retrieveMoviesByName("Avengers");
+
+        // Then
+        assertThat(movieDTOS)
+                .hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Must signal MovieErrorResponse on server errors.")
+    public void streamAllMoviesServerErrorTest() {
+        // Given
+        wireMockServer.stubFor(
+                get(anyUrl())
+                        .willReturn(
+                                serverError()
+                        )
+        );
+
+        // Then
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient.streamAllMovies().blockLast());
+    }
+}
@@ -3,12 +3,10 @@ package com.gianvittorio.javawiremock.service;
 import com.gianvittorio.javawiremock.constants.MoviesConstants;
 import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
 import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
 import com.gianvittorio.javawiremock.web.dto.MovieDTO;
 import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.client.WireMock;
-import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
-import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import org.apache.http.HttpHeaders;
 import org.junit.jupiter.api.*;
 import org.springframework.http.HttpStatus;
@@ -19,45 +17,19 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
-import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+@MoviesWireMockTest(templating = true)
 public class MoviesRestClientTest {
     private MoviesRestClient moviesRestClient;
 
-    static WireMockServer wireMockServer;
-
-    static int port;
-
-    @BeforeAll
-    public static void bootstrap() {
-        WireMockConfiguration wireMockConfiguration = wireMockConfig()
-                .port(8088)
-                .notifier(new ConsoleNotifier(true))
-                .extensions(new ResponseTemplateTransformer(true));
-        wireMockServer = new WireMockServer(wireMockConfiguration);
-
-        wireMockServer.start();
-
-        port = wireMockServer.port();
-    }
-
-    @AfterAll
-    public static void tearDownAll() {
-        wireMockServer.stop();
-    }
+    WireMockServer wireMockServer;
 
     @BeforeEach
-    public void setUp() {
-        WebClient webClient = WebClient.builder()
-                .baseUrl(String.format("http://localhost:%d/", port))
-                .defaultHeader("accept", "application/json")
-                .build();
-
-        moviesRestClient = new MoviesRestClientImpl(webClient);
-
-        wireMockServer.resetAll();
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+        moviesRestClient = createMoviesRestClient(wireMockServer.baseUrl() + "/");
 
         wireMockServer.stubFor(
                 any(anyUrl())
@@ -68,6 +40,15 @@ public class MoviesRestClientTest {
         );
     }
 
+    protected MoviesRestClient createMoviesRestClient(String baseUrl) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .defaultHeader("accept", "application/json")
+                .build();
+
+        return new MoviesRestClientImpl(webClient);
+    }
+
     @Test
     @DisplayName("Must return movies list.")
     public void retrieveAllMoviesTest() {
@@ -78,7 +59,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("all-movies.json")
+                                        .withBody(MovieFixtures.body("all-movies.json"))
                         )
         );
 
@@ -101,7 +82,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("all-movies.json")
+                                        .withBody(MovieFixtures.body("all-movies.json"))
                         )
         );
 
@@ -124,7 +105,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("movie.json")
+                                        .withBody(MovieFixtures.body("movie.json"))
                         )
         );
 
@@ -150,7 +131,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("movie-template.json")
+                                        .withBody(MovieFixtures.template("movie-template.json"))
                         )
         );
 
@@ -178,7 +159,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.NOT_FOUND.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("404-movieid.json")
+                                        .withBody(MovieFixtures.body("404-movieid.json"))
                         )
         );
 
@@ -188,6 +169,28 @@ public class MoviesRestClientTest {
         assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(id));
     }
 
+    @Test
+    @DisplayName("Decode the body of a 3xx response instead of failing, as every backend only fails from 400.")
+    public void retrieveMovieByIdRedirectionStatusTest() {
+        // Given
+        wireMockServer.stubFor(
+                get(urlPathEqualTo("/movieservice/v1/movie/1"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.MULTIPLE_CHOICES.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(MovieFixtures.body("movie.json"))
+                        )
+        );
+
+        // When
+        MovieDTO movie = moviesRestClient.retrieveMovieById(1L);
+
+        // Then
+        assertThat(movie.getName())
+                .isEqualTo("Batman Begins");
+    }
+
     @Test
     @DisplayName("Retrieve movie by name.")
     public void retrieveMovieByNameTest() {
@@ -204,7 +207,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("avengers.json")
+                                        .withBody(MovieFixtures.body("avengers.json"))
                         )
         );
 
@@ -234,7 +237,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("avengers.json")
+                                        .withBody(MovieFixtures.body("avengers.json"))
                         )
         );
 
@@ -267,7 +270,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("movie-ByName-template.json")
+                                        .withBody(MovieFixtures.template("movie-ByName-template.json"))
                         )
         );
 
@@ -305,7 +308,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("movie-ByYear.json")
+                                        .withBody(MovieFixtures.body("movie-ByYear.json"))
                         )
         );
 
@@ -331,7 +334,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.BAD_REQUEST.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("404-movieYear.json")
+                                        .withBody(MovieFixtures.body("404-movieYear.json"))
                         )
         );
 
@@ -353,7 +356,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("add-movie.json")
+                                        .withBody(MovieFixtures.body("add-movie.json"))
                         )
         );
 
@@ -387,7 +390,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("add-movie-template.json")
+                                        .withBody(MovieFixtures.template("add-movie-template.json"))
                         )
         );
 
@@ -420,7 +423,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.BAD_REQUEST.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("400-invalid-input.json")
+                                        .withBody(MovieFixtures.body("400-invalid-input.json"))
                         )
         );
 
@@ -453,7 +456,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("update-movie-template.json")
+                                        .withBody(MovieFixtures.template("update-movie-template.json"))
                         )
         );
 
@@ -526,7 +529,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("add-movie.json")
+                                        .withBody(MovieFixtures.body("add-movie.json"))
                         )
         );
 
@@ -596,7 +599,7 @@ public class MoviesRestClientTest {
                                 aResponse()
                                         .withStatus(HttpStatus.OK.value())
                                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                                        .withBodyFile("add-movie.json")
+                                        .withBody(MovieFixtures.body("add-movie.json"))
                         )
         );
 
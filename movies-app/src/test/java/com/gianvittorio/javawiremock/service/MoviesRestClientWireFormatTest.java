@@ -0,0 +1,147 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gianvittorio.javawiremock.config.JacksonAccelerator;
+import com.gianvittorio.javawiremock.config.MoviesClientFactory;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.config.WireFormat;
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.HttpHeaders;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MoviesWireMockTest(verbose = false)
+public class MoviesRestClientWireFormatTest {
+    WireMockServer wireMockServer;
+
+    static final List<MovieDTO> MOVIES = Arrays.asList(
+            new MovieDTO(1L, "Christian Bale, Katie Holmes , Liam Neeson", "Batman Begins", LocalDate.of(2005, 6, 15), 2005),
+            new MovieDTO(2L, "Christian Bale, Heath Ledger , Michael Caine", "Dark Knight", LocalDate.of(2008, 7, 18), 2008),
+            new MovieDTO(3L, "Christian Bale, Heath Ledger , Michael Caine", "The Dark Knight Rises", LocalDate.of(2012, 7, 20), 2012));
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer) throws Exception {
+        this.wireMockServer = wireMockServer;
+
+        stubAllMovies(WireFormat.SMILE, 2);
+        stubAllMovies(WireFormat.CBOR, 2);
+        wireMockServer.stubFor(get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                .atPriority(5)
+                .willReturn(
+                        aResponse()
+                                .withStatus(HttpStatus.OK.value())
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(MoviesObjectMapper.shared().writeValueAsBytes(MOVIES))
+                ));
+
+        wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                .withHeader(HttpHeaders.ACCEPT, containing(WireFormat.SMILE.getMediaType()))
+                .willReturn(
+                        aResponse()
+                                .withStatus(HttpStatus.OK.value())
+                                .withHeader(HttpHeaders.CONTENT_TYPE, WireFormat.SMILE.getMediaType())
+                                .withBody(mapper(WireFormat.SMILE).writeValueAsBytes(MOVIES.get(0)))
+                ));
+    }
+
+    @Test
+    @DisplayName("Must negotiate Smile and decode the binary catalog.")
+    public void retrieveAllMoviesSmileTest() {
+        // Given
+        MoviesRestClient moviesRestClient = client(WireFormat.SMILE, WireFormat.JSON);
+
+        // When
+        List<MovieDTO> movies = moviesRestClient.retrieveAllMovies();
+
+        // Then
+        assertThat(movies).isEqualTo(MOVIES);
+
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                .withHeader(HttpHeaders.ACCEPT, containing(WireFormat.SMILE.getMediaType())));
+    }
+
+    @Test
+    @DisplayName("Must negotiate Smile for a single movie.")
+    public void retrieveMovieByIdSmileTest() {
+        // Given
+        MoviesRestClient moviesRestClient = client(WireFormat.SMILE, WireFormat.JSON);
+
+        // When
+        MovieDTO movieDTO = moviesRestClient.retrieveMovieById(1L);
+
+        // Then
+        assertThat(movieDTO).isEqualTo(MOVIES.get(0));
+    }
+
+    @Test
+    @DisplayName("Must negotiate CBOR and decode the binary catalog.")
+    public void retrieveAllMoviesCborTest() {
+        // Given
+        MoviesRestClient moviesRestClient = client(WireFormat.CBOR, WireFormat.JSON);
+
+        // When
+        List<MovieDTO> movies = moviesRestClient.retrieveAllMovies();
+
+        // Then
+        assertThat(movies).isEqualTo(MOVIES);
+    }
+
+    @Test
+    @DisplayName("Must fall back to JSON when the server does not offer a binary format.")
+    public void retrieveAllMoviesJsonFallbackTest() {
+        // Given
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                .willReturn(
+                        aResponse()
+                                .withStatus(HttpStatus.OK.value())
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(MovieFixtures.body("all-movies.json"))
+                ));
+
+        MoviesRestClient moviesRestClient = client(WireFormat.SMILE, WireFormat.CBOR, WireFormat.JSON);
+
+        // When
+        List<MovieDTO> movies = moviesRestClient.retrieveAllMovies();
+
+        // Then
+        assertThat(movies).isNotEmpty();
+    }
+
+    private void stubAllMovies(WireFormat wireFormat, int priority) throws Exception {
+        wireMockServer.stubFor(get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                .atPriority(priority)
+                .withHeader(HttpHeaders.ACCEPT, matching(Pattern.quote(wireFormat.getMediaType()) + ".*"))
+                .willReturn(
+                        aResponse()
+                                .withStatus(HttpStatus.OK.value())
+                                .withHeader(HttpHeaders.CONTENT_TYPE, wireFormat.getMediaType())
+                                .withBody(mapper(wireFormat).writeValueAsBytes(MOVIES))
+                ));
+    }
+
+    private static ObjectMapper mapper(WireFormat wireFormat) {
+        return MoviesObjectMapper.create(wireFormat, JacksonAccelerator.NONE);
+    }
+
+    private static MoviesRestClient client(WireFormat... wireFormats) {
+        return MoviesClientFactory.moviesRestClient(MoviesClientOptions.builder()
+                .baseUrl(wireMockServer.baseUrl() + "/")
+                .wireFormats(Arrays.asList(wireFormats))
+                .build());
+    }
+}
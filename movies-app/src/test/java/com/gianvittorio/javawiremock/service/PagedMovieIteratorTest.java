@@ -0,0 +1,184 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.apache.http.HttpHeaders;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MoviesWireMockTest
+public class PagedMovieIteratorTest {
+    private MoviesRestClient moviesRestClient;
+
+    WireMockServer wireMockServer;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer, MoviesRestClient moviesRestClient) {
+        this.wireMockServer = wireMockServer;
+        this.moviesRestClient = moviesRestClient;
+    }
+
+    @Test
+    @DisplayName("Must iterate every page by offset.")
+    public void offsetPagingTest() {
+        // Given
+        stubOffsetPage(0, "movies-page-1.json");
+        stubOffsetPage(4, "movies-page-2.json");
+        stubOffsetPage(8, "movies-page-3.json");
+
+        // When
+        List<MovieDTO> movieDTOS = drain(new PagedMovieIterator(moviesRestClient, options(PagingOptions.Mode.OFFSET, 0)));
+
+        // Then
+        assertThat(movieDTOS)
+                .extracting(MovieDTO::getMovieId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        wireMockServer.verify(exactly(3), getRequestedFor(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1)));
+    }
+
+    @Test
+    @DisplayName("Must follow the next page cursor.")
+    public void cursorPagingTest() {
+        // Given
+        stubCursorPage(absent(), "movies-page-1.json", "c2");
+        stubCursorPage(equalTo("c2"), "movies-page-2.json", "c3");
+        stubCursorPage(equalTo("c3"), "movies-page-3.json", null);
+
+        // When
+        List<MovieDTO> movieDTOS = drain(new PagedMovieIterator(moviesRestClient, options(PagingOptions.Mode.CURSOR, 0)));
+
+        // Then
+        assertThat(movieDTOS)
+                .hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Must retry a failed page and carry on.")
+    public void retryFailedPageTest() {
+        // Given
+        stubOffsetPage(0, "movies-page-1.json");
+        stubFlakyPage(4, "movies-page-2.json");
+        stubOffsetPage(8, "movies-page-3.json");
+
+        // When
+        List<MovieDTO> movieDTOS = drain(new PagedMovieIterator(moviesRestClient, options(PagingOptions.Mode.OFFSET, 1)));
+
+        // Then
+        assertThat(movieDTOS)
+                .hasSize(10);
+        wireMockServer.verify(exactly(2), getRequestedFor(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                .withQueryParam(MoviesConstants.PAGE_OFFSET_PARAM, equalTo("4")));
+    }
+
+    @Test
+    @DisplayName("Must resume from the last good page once retries are exhausted.")
+    public void resumeAfterFailureTest() {
+        // Given
+        stubOffsetPage(0, "movies-page-1.json");
+        stubFlakyPage(4, "movies-page-2.json");
+        stubOffsetPage(8, "movies-page-3.json");
+
+        try (PagedMovieIterator iterator = new PagedMovieIterator(moviesRestClient, options(PagingOptions.Mode.OFFSET, 0))) {
+            List<MovieDTO> movieDTOS = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                movieDTOS.add(iterator.next());
+            }
+
+            // When
+            assertThrows(MovieErrorResponse.class, iterator::hasNext);
+            iterator.forEachRemaining(movieDTOS::add);
+
+            // Then
+            assertThat(iterator.offset())
+                    .isEqualTo(10);
+            assertThat(movieDTOS)
+                    .extracting(MovieDTO::getMovieId)
+                    .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        }
+    }
+
+    private static PagingOptions options(PagingOptions.Mode mode, int maxRetries) {
+        return PagingOptions.builder()
+                .mode(mode)
+                .pageSize(4)
+                .maxRetries(maxRetries)
+                .retryBackoff(Duration.ofMillis(10))
+                .build();
+    }
+
+    private static List<MovieDTO> drain(PagedMovieIterator iterator) {
+        try (PagedMovieIterator pages = iterator) {
+            List<MovieDTO> movieDTOS = new ArrayList<>();
+            pages.forEachRemaining(movieDTOS::add);
+            return movieDTOS;
+        }
+    }
+
+    private static ResponseDefinitionBuilder page(String bodyFile) {
+        return aResponse()
+                .withStatus(HttpStatus.OK.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(MovieFixtures.body(bodyFile));
+    }
+
+    private static MappingBuilder offsetPage(long offset) {
+        return get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                .withQueryParam(MoviesConstants.PAGE_OFFSET_PARAM, equalTo(Long.toString(offset)))
+                .withQueryParam(MoviesConstants.PAGE_LIMIT_PARAM, equalTo("4"));
+    }
+
+    private void stubOffsetPage(long offset, String bodyFile) {
+        wireMockServer.stubFor(offsetPage(offset).willReturn(page(bodyFile)));
+    }
+
+    private void stubFlakyPage(long offset, String bodyFile) {
+        String scenario = "Flaky page " + offset;
+
+        wireMockServer.stubFor(
+                offsetPage(offset)
+                        .inScenario(scenario)
+                        .whenScenarioStateIs(Scenario.STARTED)
+                        .willReturn(
+                                serverError()
+                                        .withStatus(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        )
+                        .willSetStateTo("recovered")
+        );
+        wireMockServer.stubFor(
+                offsetPage(offset)
+                        .inScenario(scenario)
+                        .whenScenarioStateIs("recovered")
+                        .willReturn(page(bodyFile))
+        );
+    }
+
+    private void stubCursorPage(StringValuePattern cursor, String bodyFile, String nextCursor) {
+        ResponseDefinitionBuilder response = page(bodyFile);
+        if (nextCursor != null) {
+            response.withHeader(MoviesConstants.NEXT_CURSOR_HEADER, nextCursor);
+        }
+
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                        .withQueryParam(MoviesConstants.PAGE_CURSOR_PARAM, cursor)
+                        .willReturn(response)
+        );
+    }
+}
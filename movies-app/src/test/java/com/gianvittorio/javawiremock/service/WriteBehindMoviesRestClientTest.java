@@ -0,0 +1,249 @@
+package com.gianvittorio.javawiremock.service;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.impl.WriteBehindMoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.WriteBehindOptions;
+import com.gianvittorio.javawiremock.support.MovieEchoTransformer;
+import com.gianvittorio.javawiremock.support.MovieStubs;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@MoviesWireMockTest
+public class WriteBehindMoviesRestClientTest {
+    private MoviesRestClient moviesRestClient;
+
+    WireMockServer wireMockServer;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer, MoviesRestClient moviesRestClient) {
+        this.wireMockServer = wireMockServer;
+        this.moviesRestClient = moviesRestClient;
+
+        MovieStubs.WRITES.registerOn(wireMockServer);
+    }
+
+    @Test
+    @DisplayName("Must coalesce pending updates of the same movie.")
+    public void coalesceUpdatesTest() throws Exception {
+        // Given
+        WriteBehindOptions options = WriteBehindOptions.builder()
+                .maxDelay(Duration.ofSeconds(10))
+                .build();
+
+        try (WriteBehindMoviesRestClient writeBehindClient = new WriteBehindMoviesRestClient(moviesRestClient, options)) {
+            // When
+            CompletableFuture<MovieDTO> first = writeBehindClient.updateMovieAsync(3L, movie(3L, "First"));
+            CompletableFuture<MovieDTO> second = writeBehindClient.updateMovieAsync(3L, movie(3L, "Second"));
+            CompletableFuture<MovieDTO> last = writeBehindClient.updateMovieAsync(3L, movie(3L, "Last"));
+            writeBehindClient.flush();
+
+            // Then
+            assertThat(first.get().getCast())
+                    .contains("Last");
+            assertThat(second.get())
+                    .isEqualTo(last.get());
+            wireMockServer.verify(exactly(1), putRequestedFor(urlPathEqualTo("/movieservice/v1/movie/3"))
+                    .withRequestBody(matchingJsonPath("$.cast", equalTo("Last"))));
+        }
+    }
+
+    @Test
+    @DisplayName("Must send every queued write once the batch is full.")
+    public void batchSizeTest() throws Exception {
+        // Given
+        WriteBehindOptions options = WriteBehindOptions.builder()
+                .batchSize(5)
+                .maxDelay(Duration.ofSeconds(10))
+                .build();
+
+        try (WriteBehindMoviesRestClient writeBehindClient = new WriteBehindMoviesRestClient(moviesRestClient, options)) {
+            // When
+            List<CompletableFuture<MovieDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(writeBehindClient.addMovieAsync(movie(null, "Tom Hanks")));
+            }
+
+            // Then
+            for (CompletableFuture<MovieDTO> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getMovieId())
+                        .isNotNull();
+            }
+            wireMockServer.verify(exactly(5), postRequestedFor(urlPathEqualTo(MoviesConstants.ADD_MOVIE_V1)));
+        }
+    }
+
+    @Test
+    @DisplayName("Must send the writes of a batch concurrently.")
+    public void concurrentBatchTest() throws Exception {
+        // Given
+        int writes = 10;
+        int delayMillis = 300;
+        wireMockServer.stubFor(
+                post(urlPathEqualTo(MoviesConstants.ADD_MOVIE_V1))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.OK.value())
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withFixedDelay(delayMillis)
+                                        .withTransformers(MovieEchoTransformer.NAME)
+                                        .withTransformerParameters(MovieEchoTransformer.requestBody())
+                        )
+        );
+
+        WriteBehindOptions options = WriteBehindOptions.builder()
+                .batchSize(writes)
+                .maxDelay(Duration.ofSeconds(10))
+                .build();
+
+        try (WriteBehindMoviesRestClient writeBehindClient = new WriteBehindMoviesRestClient(moviesRestClient, options)) {
+            // When
+            long start = System.nanoTime();
+            List<CompletableFuture<MovieDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < writes; i++) {
+                futures.add(writeBehindClient.addMovieAsync(movie(null, "Tom Hanks")));
+            }
+            writeBehindClient.flush();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Then
+            for (CompletableFuture<MovieDTO> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getMovieId())
+                        .isNotNull();
+            }
+            assertThat(elapsedMillis)
+                    .as("wall time of %d writes against a %d ms service (ms)", writes, delayMillis)
+                    .isLessThan(writes * delayMillis / 3L);
+        }
+    }
+
+    @Test
+    @DisplayName("Must block writers while the queue is full.")
+    public void backpressureTest() throws Exception {
+        // Given
+        WriteBehindOptions options = WriteBehindOptions.builder()
+                .capacity(2)
+                .maxDelay(Duration.ofSeconds(10))
+                .build();
+
+        try (WriteBehindMoviesRestClient writeBehindClient = new WriteBehindMoviesRestClient(moviesRestClient, options)) {
+            writeBehindClient.updateMovieAsync(1L, movie(1L, "One"));
+            writeBehindClient.updateMovieAsync(2L, movie(2L, "Two"));
+
+            // When
+            CompletableFuture<CompletableFuture<MovieDTO>> blockedWriter = CompletableFuture.supplyAsync(
+                    () -> writeBehindClient.updateMovieAsync(3L, movie(3L, "Three")));
+
+            // Then
+            assertThat(catchThrowable(() -> blockedWriter.get(200, TimeUnit.MILLISECONDS)))
+                    .isInstanceOf(TimeoutException.class);
+
+            writeBehindClient.flush();
+
+            assertThat(blockedWriter.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS).getCast())
+                    .contains("Three");
+        }
+    }
+
+    @Test
+    @DisplayName("Must complete the write exceptionally when the service rejects it.")
+    public void failedWriteTest() {
+        // Given
+        wireMockServer.stubFor(
+                put(urlPathEqualTo("/movieservice/v1/movie/100"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        )
+        );
+
+        try (WriteBehindMoviesRestClient writeBehindClient = new WriteBehindMoviesRestClient(moviesRestClient, WriteBehindOptions.builder().build())) {
+            // When
+            CompletableFuture<MovieDTO> future = writeBehindClient.updateMovieAsync(100L, movie(100L, "ABC"));
+            writeBehindClient.flush();
+
+            // Then
+            assertThat(catchThrowable(future::get))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(MovieErrorResponse.class);
+            assertThat(catchThrowable(() -> writeBehindClient.updateMovie(100L, movie(100L, "ABC"))))
+                    .isInstanceOf(MovieErrorResponse.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Must send a blocking write without waiting for the batch delay.")
+    public void blockingWriteTest() throws Exception {
+        // Given
+        WriteBehindOptions options = WriteBehindOptions.builder()
+                .maxDelay(Duration.ofSeconds(30))
+                .build();
+
+        try (WriteBehindMoviesRestClient writeBehindClient = new WriteBehindMoviesRestClient(moviesRestClient, options)) {
+            // When
+            CompletableFuture<MovieDTO> queued = writeBehindClient.updateMovieAsync(1L, movie(1L, "Queued"));
+            CompletableFuture<MovieDTO> blocking = CompletableFuture.supplyAsync(
+                    () -> writeBehindClient.updateMovie(2L, movie(2L, "Blocking")));
+
+            // Then
+            assertThat(blocking.get(5, TimeUnit.SECONDS).getCast())
+                    .contains("Blocking");
+            assertThat(queued.get(5, TimeUnit.SECONDS).getCast())
+                    .contains("Queued");
+        }
+    }
+
+    @Test
+    @DisplayName("Must fail pending writes when the worker is interrupted.")
+    public void interruptedWorkerTest() throws Exception {
+        // Given
+        WriteBehindOptions options = WriteBehindOptions.builder()
+                .maxDelay(Duration.ofSeconds(30))
+                .build();
+
+        try (WriteBehindMoviesRestClient writeBehindClient = new WriteBehindMoviesRestClient(moviesRestClient, options)) {
+            CompletableFuture<MovieDTO> future = writeBehindClient.updateMovieAsync(1L, movie(1L, "One"));
+
+            // When
+            Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("movies-write-behind"))
+                    .forEach(Thread::interrupt);
+
+            // Then
+            assertThat(catchThrowable(() -> future.get(5, TimeUnit.SECONDS)))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(MovieErrorResponse.class);
+            CompletableFuture.runAsync(writeBehindClient::flush).get(5, TimeUnit.SECONDS);
+            assertThat(catchThrowable(() -> writeBehindClient.updateMovieAsync(2L, movie(2L, "Two"))))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static MovieDTO movie(Long movieId, String cast) {
+        return MovieDTO.builder()
+                .movieId(movieId)
+                .name("Toy Story 4")
+                .cast(cast)
+                .year(2019)
+                .releaseDate(LocalDate.of(2019, 06, 20))
+                .build();
+    }
+}
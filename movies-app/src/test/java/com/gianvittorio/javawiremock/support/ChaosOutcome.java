@@ -0,0 +1,29 @@
+package com.gianvittorio.javawiremock.support;
+
+/**
+ * What {@link ChaosResponseTransformer} does to a response, and how the client is expected to surface it.
+ */
+public enum ChaosOutcome {
+    SUCCESS(ClientOutcome.OK),
+    LATENCY_SPIKE(ClientOutcome.OK),
+    CONNECTION_RESET(ClientOutcome.TRANSPORT_ERROR),
+    MALFORMED_BODY(ClientOutcome.DECODE_ERROR),
+    SERVER_ERROR(ClientOutcome.HTTP_ERROR);
+
+    private final ClientOutcome expected;
+
+    ChaosOutcome(ClientOutcome expected) {
+        this.expected = expected;
+    }
+
+    public ClientOutcome getExpected() {
+        return expected;
+    }
+
+    public enum ClientOutcome {
+        OK,
+        HTTP_ERROR,
+        DECODE_ERROR,
+        TRANSPORT_ERROR
+    }
+}
@@ -0,0 +1,83 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.like;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+
+/**
+ * Replaces the stubbed response with the fault {@link ChaosSchedule} picks for the request. The sequence number is the
+ * last path segment, e.g. the id of {@code /movieservice/v1/movie/{id}}; requests without one are served unchanged.
+ * Applied to stubs that name it, with the schedule as transformer parameters:
+ * <pre>
+ * .willReturn(json("movie.json")
+ *         .withTransformers(ChaosResponseTransformer.NAME)
+ *         .withTransformerParameters(schedule.toParameters()))
+ * </pre>
+ */
+public class ChaosResponseTransformer extends ResponseDefinitionTransformer {
+    public static final String NAME = "movies-chaos";
+
+    private static final String MALFORMED_BODY = "{\"movie_id\": 1, \"name\": \"Batman";
+
+    @Override
+    public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files, Parameters parameters) {
+        Long sequence = sequence(request.getUrl());
+        if (sequence == null) {
+            return responseDefinition;
+        }
+
+        ChaosSchedule schedule = ChaosSchedule.from(parameters);
+        switch (schedule.outcome(sequence)) {
+            case LATENCY_SPIKE:
+                return like(responseDefinition)
+                        .withFixedDelay(schedule.getSpikeMillis())
+                        .build();
+            case CONNECTION_RESET:
+                return aResponse()
+                        .withFault(Fault.CONNECTION_RESET_BY_PEER)
+                        .build();
+            case MALFORMED_BODY:
+                return aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBody(MALFORMED_BODY)
+                        .build();
+            case SERVER_ERROR:
+                return aResponse()
+                        .withStatus(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .build();
+            default:
+                return responseDefinition;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    private static Long sequence(String url) {
+        int end = url.indexOf('?');
+        String path = end < 0 ? url : url.substring(0, end);
+        String segment = path.substring(path.lastIndexOf('/') + 1);
+        try {
+            return Long.parseLong(segment);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
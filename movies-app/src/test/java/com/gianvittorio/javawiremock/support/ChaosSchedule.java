@@ -0,0 +1,83 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted, seeded choice of a {@link ChaosOutcome} per request sequence number. The same seed, weights and sequence
+ * number always give the same outcome, so a test can tell which fault the server injected into any call and client
+ * retries of a call meet the same fault again.
+ */
+public class ChaosSchedule {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+
+    private final Map<ChaosOutcome, Integer> weights;
+
+    private final int totalWeight;
+
+    private final int spikeMillis;
+
+    private ChaosSchedule(long seed, Map<ChaosOutcome, Integer> weights, int spikeMillis) {
+        this.seed = seed;
+        this.weights = weights;
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        this.spikeMillis = spikeMillis;
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("At least one chaos outcome needs a positive weight");
+        }
+    }
+
+    /**
+     * 70% success, 10% latency spikes of 300 ms, 5% connection resets, 5% malformed bodies and 10% 503s.
+     */
+    public static ChaosSchedule defaults(long seed) {
+        Map<ChaosOutcome, Integer> weights = new EnumMap<>(ChaosOutcome.class);
+        weights.put(ChaosOutcome.SUCCESS, 70);
+        weights.put(ChaosOutcome.LATENCY_SPIKE, 10);
+        weights.put(ChaosOutcome.CONNECTION_RESET, 5);
+        weights.put(ChaosOutcome.MALFORMED_BODY, 5);
+        weights.put(ChaosOutcome.SERVER_ERROR, 10);
+
+        return new ChaosSchedule(seed, weights, 300);
+    }
+
+    static ChaosSchedule from(Parameters parameters) {
+        ChaosSchedule defaults = defaults(0);
+        Map<ChaosOutcome, Integer> weights = new EnumMap<>(ChaosOutcome.class);
+        for (ChaosOutcome outcome : ChaosOutcome.values()) {
+            weights.put(outcome, parameters.getInt(outcome.name(), defaults.weights.get(outcome)));
+        }
+
+        return new ChaosSchedule(Long.parseLong(parameters.getString("seed", "0")), weights, parameters.getInt("spikeMillis", defaults.spikeMillis));
+    }
+
+    public Parameters toParameters() {
+        Parameters parameters = new Parameters();
+        parameters.put("seed", String.valueOf(seed));
+        parameters.put("spikeMillis", spikeMillis);
+        weights.forEach((outcome, weight) -> parameters.put(outcome.name(), weight));
+
+        return parameters;
+    }
+
+    public ChaosOutcome outcome(long sequence) {
+        int pick = new SplittableRandom(seed + sequence * GOLDEN_GAMMA).nextInt(totalWeight);
+        for (Map.Entry<ChaosOutcome, Integer> entry : weights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+
+        throw new IllegalStateException("Unreachable, weights sum to " + totalWeight);
+    }
+
+    public int getSpikeMillis() {
+        return spikeMillis;
+    }
+}
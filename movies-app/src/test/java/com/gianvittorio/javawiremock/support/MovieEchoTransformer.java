@@ -0,0 +1,214 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Purpose-built replacement for the Handlebars movie templates, writing response bytes directly:
+ * <ul>
+ * <li>{@link #pathId(String)} serves a fixture with its first {@code movie_id} set to the last path segment, like
+ * {@code movie-template.json}. The fixture is split around that value once and cached.</li>
+ * <li>{@link #requestBody()} echoes the request body with a {@code movie_id} appended, taken from the path when it ends
+ * in one and otherwise from a sequence, like {@code add-movie-template.json} and {@code update-movie-template.json}.</li>
+ * </ul>
+ * Applied to stubs that name it: {@code .withTransformers(MovieEchoTransformer.NAME).withTransformerParameters(...)}.
+ */
+public class MovieEchoTransformer extends ResponseTransformer {
+    public static final String NAME = "movie-echo";
+
+    private static final byte[] MOVIE_ID_FIELD = "\"movie_id\"".getBytes(StandardCharsets.US_ASCII);
+
+    private enum Mode {
+        PATH_ID,
+        REQUEST_BODY
+    }
+
+    private final Map<String, IdSplice> fixtures = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    public static Parameters pathId(String fixture) {
+        Parameters parameters = Parameters.one("mode", Mode.PATH_ID.name());
+        parameters.put("fixture", fixture);
+
+        return parameters;
+    }
+
+    public static Parameters requestBody() {
+        return Parameters.one("mode", Mode.REQUEST_BODY.name());
+    }
+
+    @Override
+    public Response transform(Request request, Response response, FileSource files, Parameters parameters) {
+        byte[] pathId = pathId(request.getUrl());
+
+        byte[] body;
+        if (Mode.valueOf(parameters.getString("mode")) == Mode.PATH_ID) {
+            if (pathId == null) {
+                return response;
+            }
+            body = fixtures.computeIfAbsent(parameters.getString("fixture"), fixture -> IdSplice.compile(MovieFixtures.body(fixture)))
+                    .render(pathId);
+        } else {
+            byte[] id = pathId != null ? pathId : Long.toString(nextId.getAndIncrement()).getBytes(StandardCharsets.US_ASCII);
+            body = echo(request.getBody(), id);
+        }
+
+        return Response.Builder.like(response)
+                .but()
+                .body(body)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    /**
+     * @return the last path segment when it is a number, otherwise {@code null}
+     */
+    private static byte[] pathId(String url) {
+        int end = url.indexOf('?');
+        if (end < 0) {
+            end = url.length();
+        }
+        int start = url.lastIndexOf('/', end - 1) + 1;
+        if (start >= end) {
+            return null;
+        }
+
+        byte[] id = new byte[end - start];
+        for (int i = start; i < end; i++) {
+            char c = url.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            id[i - start] = (byte) c;
+        }
+
+        return id;
+    }
+
+    /**
+     * Appends {@code "movie_id":<id>} as the last member of the request's JSON object, so it wins over any
+     * {@code movie_id} the client sent.
+     */
+    private static byte[] echo(byte[] requestBody, byte[] id) {
+        int close = requestBody.length - 1;
+        while (close >= 0 && requestBody[close] != '}') {
+            close--;
+        }
+        if (close < 0) {
+            return requestBody;
+        }
+
+        boolean empty = true;
+        for (int i = close - 1; i >= 0 && requestBody[i] != '{'; i--) {
+            if (!Character.isWhitespace(requestBody[i])) {
+                empty = false;
+                break;
+            }
+        }
+
+        byte[] separator = empty ? new byte[0] : new byte[]{','};
+        byte[] body = new byte[close + separator.length + MOVIE_ID_FIELD.length + 1 + id.length + 1];
+        int position = 0;
+        System.arraycopy(requestBody, 0, body, position, close);
+        position += close;
+        System.arraycopy(separator, 0, body, position, separator.length);
+        position += separator.length;
+        System.arraycopy(MOVIE_ID_FIELD, 0, body, position, MOVIE_ID_FIELD.length);
+        position += MOVIE_ID_FIELD.length;
+        body[position++] = ':';
+        System.arraycopy(id, 0, body, position, id.length);
+        position += id.length;
+        body[position] = '}';
+
+        return body;
+    }
+
+    /**
+     * A fixture split around the value of its first {@code movie_id}.
+     */
+    private static class IdSplice {
+        private final byte[] prefix;
+
+        private final byte[] suffix;
+
+        private IdSplice(byte[] prefix, byte[] suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        static IdSplice compile(byte[] fixture) {
+            int field = indexOf(fixture, MOVIE_ID_FIELD);
+            if (field < 0) {
+                throw new IllegalArgumentException("Fixture has no " + new String(MOVIE_ID_FIELD, StandardCharsets.US_ASCII) + " field");
+            }
+
+            int valueStart = field + MOVIE_ID_FIELD.length;
+            while (fixture[valueStart] == ':' || Character.isWhitespace(fixture[valueStart])) {
+                valueStart++;
+            }
+
+            int valueEnd = valueStart;
+            boolean quoted = fixture[valueStart] == '"';
+            if (quoted) {
+                valueEnd++;
+                while (fixture[valueEnd] != '"') {
+                    valueEnd += fixture[valueEnd] == '\\' ? 2 : 1;
+                }
+                valueEnd++;
+            } else {
+                while (fixture[valueEnd] != ',' && fixture[valueEnd] != '}' && !Character.isWhitespace(fixture[valueEnd])) {
+                    valueEnd++;
+                }
+            }
+
+            byte[] prefix = new byte[valueStart];
+            System.arraycopy(fixture, 0, prefix, 0, valueStart);
+            byte[] suffix = new byte[fixture.length - valueEnd];
+            System.arraycopy(fixture, valueEnd, suffix, 0, suffix.length);
+
+            return new IdSplice(prefix, suffix);
+        }
+
+        byte[] render(byte[] id) {
+            byte[] body = new byte[prefix.length + id.length + suffix.length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            System.arraycopy(id, 0, body, prefix.length, id.length);
+            System.arraycopy(suffix, 0, body, prefix.length + id.length, suffix.length);
+
+            return body;
+        }
+
+        private static int indexOf(byte[] bytes, byte[] target) {
+            outer:
+            for (int i = 0; i <= bytes.length - target.length; i++) {
+                for (int j = 0; j < target.length; j++) {
+                    if (bytes[i + j] != target[j]) {
+                        continue outer;
+                    }
+                }
+
+                return i;
+            }
+
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MoviesWireMockTest(verbose = false)
+public class MovieEchoTransformerTest {
+    private MoviesRestClient moviesRestClient;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer, MoviesRestClient moviesRestClient) {
+        this.moviesRestClient = moviesRestClient;
+
+        MovieStubs.MOVIE_BY_ID
+                .and(MovieStubs.WRITES)
+                .registerOn(wireMockServer);
+    }
+
+    @Test
+    @DisplayName("Must serve the fixture with the id from the path.")
+    public void pathIdTest() {
+        // When
+        MovieDTO movie = moviesRestClient.retrieveMovieById(4242L);
+
+        // Then
+        assertThat(movie.getMovieId())
+                .isEqualTo(4242L);
+        assertThat(movie.getName())
+                .isEqualTo("Batman Begins");
+    }
+
+    @Test
+    @DisplayName("Must echo an added movie with a generated id.")
+    public void addMovieTest() {
+        // Given
+        MovieDTO movie = movie(null);
+
+        // When
+        MovieDTO first = moviesRestClient.addMovie(movie);
+        MovieDTO second = moviesRestClient.addMovie(movie);
+
+        // Then
+        assertThat(first.getMovieId())
+                .isNotNull()
+                .isNotEqualTo(second.getMovieId());
+        assertThat(first)
+                .usingRecursiveComparison()
+                .ignoringFields("movieId")
+                .isEqualTo(movie);
+    }
+
+    @Test
+    @DisplayName("Must echo an updated movie with the id from the path.")
+    public void updateMovieTest() {
+        // Given
+        MovieDTO movie = movie(null);
+
+        // When
+        MovieDTO updated = moviesRestClient.updateMovie(7L, movie);
+
+        // Then
+        assertThat(updated)
+                .isEqualTo(movie(7L));
+    }
+
+    private static MovieDTO movie(Long movieId) {
+        return MovieDTO.builder()
+                .movieId(movieId)
+                .name("Toy Story 4")
+                .cast("Tom Hanks, Tim Allen")
+                .year(2019)
+                .releaseDate(LocalDate.of(2019, 6, 20))
+                .build();
+    }
+}
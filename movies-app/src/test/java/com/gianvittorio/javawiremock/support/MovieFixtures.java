@@ -0,0 +1,79 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+
+/**
+ * Body files under {@code __files}, read from the classpath once per JVM and served from memory, and the response
+ * template transformer shared by every templating server so each template is compiled only once.
+ */
+public final class MovieFixtures {
+
+    private static final String FILES_ROOT = "__files/";
+
+    private static final Map<String, byte[]> BODIES = new ConcurrentHashMap<>();
+
+    private static final Map<String, String> TEMPLATES = new ConcurrentHashMap<>();
+
+    private static final ResponseTemplateTransformer TEMPLATING = new ResponseTemplateTransformer(true);
+
+    private MovieFixtures() {
+    }
+
+    public static byte[] body(String fileName) {
+        return BODIES.computeIfAbsent(fileName, MovieFixtures::read);
+    }
+
+    /**
+     * Templates must be served as text, WireMock does not render binary bodies.
+     */
+    public static String template(String fileName) {
+        return TEMPLATES.computeIfAbsent(fileName, name -> new String(body(name), StandardCharsets.UTF_8));
+    }
+
+    public static ResponseDefinitionBuilder json(String fileName) {
+        return json(HttpStatus.OK, fileName);
+    }
+
+    public static ResponseDefinitionBuilder json(HttpStatus status, String fileName) {
+        return aResponse()
+                .withStatus(status.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(body(fileName));
+    }
+
+    public static ResponseDefinitionBuilder jsonTemplate(String fileName) {
+        return aResponse()
+                .withStatus(HttpStatus.OK.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(template(fileName));
+    }
+
+    static ResponseTemplateTransformer templating() {
+        return TEMPLATING;
+    }
+
+    private static byte[] read(String fileName) {
+        try (InputStream in = MovieFixtures.class.getClassLoader().getResourceAsStream(FILES_ROOT + fileName)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No fixture " + FILES_ROOT + fileName + " on the test classpath");
+            }
+
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.gianvittorio.javawiremock.support.MovieFixtures.json;
+
+/**
+ * Stub sets for the movie service scenarios shared between test classes. Bodies come from {@link MovieFixtures}, ids
+ * and write bodies are echoed by {@link MovieEchoTransformer}, so none of these need response templating.
+ */
+public final class MovieStubs {
+
+    public static final StubSet CATALOG = server -> server.stubFor(
+            get(urlPathEqualTo(MoviesConstants.GET_ALL_MOVIES_V1))
+                    .willReturn(json("all-movies.json"))
+    );
+
+    public static final StubSet MOVIE_BY_ID = server -> server.stubFor(
+            get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                    .willReturn(
+                            echo()
+                                    .withTransformerParameters(MovieEchoTransformer.pathId("movie.json"))
+                    )
+    );
+
+    public static final StubSet MOVIE_NOT_FOUND = server -> server.stubFor(
+            get(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                    .willReturn(json(HttpStatus.NOT_FOUND, "404-movieid.json"))
+    );
+
+    public static final StubSet WRITES = server -> {
+        server.stubFor(
+                post(urlPathEqualTo(MoviesConstants.ADD_MOVIE_V1))
+                        .willReturn(
+                                echo()
+                                        .withTransformerParameters(MovieEchoTransformer.requestBody())
+                        )
+        );
+        server.stubFor(
+                put(urlPathMatching("/movieservice/v1/movie/\\d+"))
+                        .willReturn(
+                                echo()
+                                        .withTransformerParameters(MovieEchoTransformer.requestBody())
+                        )
+        );
+    };
+
+    private MovieStubs() {
+    }
+
+    private static ResponseDefinitionBuilder echo() {
+        return aResponse()
+                .withStatus(HttpStatus.OK.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withTransformers(MovieEchoTransformer.NAME);
+    }
+}
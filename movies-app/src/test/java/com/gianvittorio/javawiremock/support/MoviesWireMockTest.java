@@ -0,0 +1,28 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.github.tomakehurst.wiremock.extension.Extension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs the test class against its own WireMock server on a dynamic port, see {@link WireMockExtension}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(WireMockExtension.class)
+public @interface MoviesWireMockTest {
+    /**
+     * Registers the response template transformer globally.
+     */
+    boolean templating() default false;
+
+    boolean verbose() default true;
+
+    /**
+     * Further WireMock extensions, such as response transformers, instantiated through their no-arg constructor.
+     */
+    Class<? extends Extension>[] extensions() default {};
+}
@@ -0,0 +1,19 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+/**
+ * A reusable group of stubs for one scenario, registered on a test's server with {@link #registerOn(WireMockServer)}.
+ */
+@FunctionalInterface
+public interface StubSet {
+
+    void registerOn(WireMockServer server);
+
+    default StubSet and(StubSet next) {
+        return server -> {
+            registerOn(server);
+            next.registerOn(server);
+        };
+    }
+}
@@ -0,0 +1,241 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deterministic catalog of any size. Every movie is derived from the seed and its index alone, so catalogs are
+ * streamed record by record and never held in memory, and a test can recompute any record to check it.
+ * <p>
+ * Names and cast follow Zipf distributions, so a few words and actors are very common and most are rare, years lean
+ * towards recent decades and some titles are sequels.
+ */
+public class SyntheticCatalog {
+
+    public enum Format {
+        JSON_ARRAY,
+        NDJSON
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final String[] TITLE_WORDS = {
+            "Dark", "Night", "Return", "Last", "Man", "Love", "Star", "City", "King", "War", "Lost", "Story", "Blood",
+            "Dead", "Girl", "Secret", "Home", "Time", "Game", "World", "Fire", "Black", "Iron", "Ghost", "Shadow",
+            "Rising", "Knight", "Avenger", "Empire", "Legend", "Storm", "Dream", "River", "Summer", "Winter", "Island",
+            "Hunter", "Machine", "Planet", "Ocean", "Silent", "Wild", "Broken", "Golden", "Midnight", "Red", "Blue",
+            "Moon", "Escape", "Heart", "Edge", "Road", "House", "Song", "Mission", "Code", "Frontier", "Dawn", "Rebel"
+    };
+
+    private static final String[] SEQUELS = {" 2", " 3", " II", ": Part Two", " Returns", ": Reloaded"};
+
+    private static final String[] FIRST_NAMES = {
+            "Christian", "Heath", "Michael", "Katie", "Liam", "Robert", "Chris", "Scarlett", "Mark", "Anne", "Tom",
+            "Emma", "Gary", "Morgan", "Cillian", "Natalie", "Joseph", "Marion", "Tilda", "Jessica", "Samuel", "Meryl",
+            "Denzel", "Cate", "Leonardo", "Kate", "Brad", "Angelina", "Matt", "Julia", "Hugh", "Nicole", "Keanu",
+            "Carrie", "Will", "Jada", "Ryan", "Rachel", "Idris", "Viola", "Jake", "Amy", "Daniel", "Saoirse", "Oscar",
+            "Lupita", "Javier", "Penelope", "Ken", "Rinko"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Bale", "Ledger", "Caine", "Holmes", "Neeson", "Downey", "Evans", "Johansson", "Ruffalo", "Hathaway",
+            "Hardy", "Stone", "Oldman", "Freeman", "Murphy", "Portman", "Levitt", "Cotillard", "Hanks", "Chastain",
+            "Jackson", "Streep", "Washington", "Blanchett", "DiCaprio", "Winslet", "Pitt", "Jolie", "Damon", "Roberts",
+            "Jackman", "Kidman", "Reeves", "Moss", "Smith", "Pinkett", "Gosling", "Weisz", "Elba", "Davis", "Gyllenhaal",
+            "Adams", "Craig", "Ronan", "Isaac", "Nyongo", "Bardem", "Cruz", "Watanabe", "Kikuchi", "Foster", "Dafoe",
+            "Swinton", "Theron", "Mortensen", "McAdams", "Fassbender", "Vikander", "Gleeson", "Driver", "Pugh",
+            "Chalamet", "Zendaya", "Boseman", "Wright", "Gadot", "Momoa", "Pine", "Pratt", "Saldana", "Bautista",
+            "Cumberbatch", "Hiddleston", "Olsen", "Larson", "Rudd", "Lilly", "Holland", "Tomei", "Favreau", "Paltrow",
+            "Bettany", "Cheadle", "Mackie", "Stan", "Renner", "Brolin", "Russo", "Whedon", "Feige", "Waititi", "Coogler",
+            "Gunn", "Raimi", "Nolan", "Villeneuve", "Scott", "Fincher", "Spielberg"
+    };
+
+    private static final int LATEST_YEAR = 2021;
+
+    private static final int EARLIEST_YEAR = 1920;
+
+    private static final Map<String, Path> FILES = new ConcurrentHashMap<>();
+
+    private static final Zipf TITLE_WORD_RANKS = new Zipf(TITLE_WORDS.length, 1.07);
+
+    private static final Zipf ACTOR_RANKS = new Zipf(FIRST_NAMES.length * LAST_NAMES.length, 1.1);
+
+    private final long seed;
+
+    private final long size;
+
+    public SyntheticCatalog(long seed, long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        this.seed = seed;
+        this.size = size;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Transformer parameters that make {@link SyntheticCatalogTransformer} serve this catalog.
+     */
+    public Parameters toParameters(Format format) {
+        Parameters parameters = new Parameters();
+        parameters.put("seed", String.valueOf(seed));
+        parameters.put("size", String.valueOf(size));
+        parameters.put("format", format.name());
+
+        return parameters;
+    }
+
+    static SyntheticCatalog from(Parameters parameters) {
+        return new SyntheticCatalog(Long.parseLong(parameters.getString("seed")), Long.parseLong(parameters.getString("size")));
+    }
+
+    /**
+     * @param index zero based, the movie id is {@code index + 1}
+     */
+    public MovieDTO movie(long index) {
+        SplittableRandom random = new SplittableRandom(seed + (index + 1) * GOLDEN_GAMMA);
+
+        int year = Math.max(EARLIEST_YEAR, LATEST_YEAR - (int) (-Math.log(1 - random.nextDouble()) * 18));
+        LocalDate releaseDate = LocalDate.ofYearDay(year, 1 + random.nextInt(LocalDate.ofYearDay(year, 1).lengthOfYear()));
+
+        return MovieDTO.builder()
+                .movieId(index + 1)
+                .name(name(random))
+                .cast(cast(random))
+                .year(year)
+                .releaseDate(releaseDate)
+                .build();
+    }
+
+    public void write(OutputStream out, Format format) throws IOException {
+        try (JsonGenerator generator = MoviesObjectMapper.shared().getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (format == Format.NDJSON) {
+                generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            } else {
+                generator.writeStartArray();
+            }
+
+            for (long index = 0; index < size; index++) {
+                MovieDTO movie = movie(index);
+                generator.writeStartObject();
+                generator.writeNumberField("movie_id", movie.getMovieId());
+                generator.writeStringField("name", movie.getName());
+                generator.writeStringField("cast", movie.getCast());
+                generator.writeNumberField("year", movie.getYear());
+                generator.writeStringField("release_date", movie.getReleaseDate().toString());
+                generator.writeEndObject();
+            }
+
+            if (format == Format.JSON_ARRAY) {
+                generator.writeEndArray();
+            } else if (size > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    public void write(Path file, Format format) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out, format);
+        }
+    }
+
+    /**
+     * The catalog written once per JVM into the temp directory, for serving from disk.
+     */
+    public Path file(Format format) {
+        return FILES.computeIfAbsent(seed + "-" + size + "-" + format, key -> {
+            try {
+                Path file = Files.createTempFile("movies-catalog-" + key + "-", format == Format.NDJSON ? ".ndjson" : ".json");
+                file.toFile().deleteOnExit();
+                Path partial = Paths.get(file + ".partial");
+                write(partial, format);
+
+                return Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private String name(SplittableRandom random) {
+        int words = 1 + Math.min(3, (int) (-Math.log(1 - random.nextDouble()) * 1.2));
+        StringBuilder name = new StringBuilder();
+        if (random.nextInt(4) == 0) {
+            name.append("The ");
+        }
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                name.append(' ');
+            }
+            name.append(TITLE_WORDS[TITLE_WORD_RANKS.sample(random)]);
+        }
+        if (random.nextInt(10) == 0) {
+            name.append(SEQUELS[random.nextInt(SEQUELS.length)]);
+        }
+
+        return name.toString();
+    }
+
+    private String cast(SplittableRandom random) {
+        int members = 2 + random.nextInt(4);
+        StringBuilder cast = new StringBuilder();
+        for (int i = 0; i < members; i++) {
+            if (i > 0) {
+                cast.append(", ");
+            }
+            int actor = ACTOR_RANKS.sample(random);
+            cast.append(FIRST_NAMES[actor % FIRST_NAMES.length])
+                    .append(' ')
+                    .append(LAST_NAMES[actor / FIRST_NAMES.length]);
+        }
+
+        return cast.toString();
+    }
+
+    /**
+     * Rank sampling by binary search over the cumulative weights {@code 1 / rank^exponent}.
+     */
+    private static class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double total = 0;
+            for (int rank = 1; rank <= n; rank++) {
+                total += 1 / Math.pow(rank, exponent);
+                cumulative[rank - 1] = total;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+
+            return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+        }
+    }
+}
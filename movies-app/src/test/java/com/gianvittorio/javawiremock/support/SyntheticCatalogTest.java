@@ -0,0 +1,113 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import com.gianvittorio.javawiremock.web.dto.MovieDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SyntheticCatalogTest {
+    private static final long SEED = 20210512L;
+
+    @Test
+    @DisplayName("Must write the same catalog for the same seed.")
+    public void deterministicTest() throws Exception {
+        // Given
+        SyntheticCatalog catalog = new SyntheticCatalog(SEED, 1_000);
+
+        // When
+        byte[] first = bytes(catalog, SyntheticCatalog.Format.JSON_ARRAY);
+        byte[] second = bytes(new SyntheticCatalog(SEED, 1_000), SyntheticCatalog.Format.JSON_ARRAY);
+        byte[] otherSeed = bytes(new SyntheticCatalog(SEED + 1, 1_000), SyntheticCatalog.Format.JSON_ARRAY);
+
+        // Then
+        assertThat(first)
+                .isEqualTo(second)
+                .isNotEqualTo(otherSeed);
+    }
+
+    @Test
+    @DisplayName("Must write a JSON array that decodes back to the generated movies.")
+    public void jsonArrayTest() throws Exception {
+        // Given
+        SyntheticCatalog catalog = new SyntheticCatalog(SEED, 1_000);
+
+        // When
+        List<MovieDTO> movies = MoviesObjectMapper.shared()
+                .readValue(bytes(catalog, SyntheticCatalog.Format.JSON_ARRAY), new TypeReference<List<MovieDTO>>() {
+                });
+
+        // Then
+        assertThat(movies)
+                .hasSize(1_000)
+                .isEqualTo(LongStream.range(0, 1_000).mapToObj(catalog::movie).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Must write one movie per line as NDJSON.")
+    public void ndjsonTest() throws Exception {
+        // Given
+        SyntheticCatalog catalog = new SyntheticCatalog(SEED, 500);
+
+        // When
+        String ndjson = new String(bytes(catalog, SyntheticCatalog.Format.NDJSON), StandardCharsets.UTF_8);
+
+        // Then
+        List<String> lines = new BufferedReader(new StringReader(ndjson)).lines().collect(Collectors.toList());
+        assertThat(lines)
+                .hasSize(500);
+        assertThat(MoviesObjectMapper.shared().readValue(lines.get(499), MovieDTO.class))
+                .isEqualTo(catalog.movie(499));
+        assertThat(ndjson)
+                .endsWith("}\n");
+    }
+
+    @Test
+    @DisplayName("Must draw cast members from a skewed distribution and keep every field valid.")
+    public void distributionTest() {
+        // Given
+        SyntheticCatalog catalog = new SyntheticCatalog(SEED, 20_000);
+
+        // When
+        List<MovieDTO> movies = LongStream.range(0, catalog.getSize())
+                .mapToObj(catalog::movie)
+                .collect(Collectors.toList());
+
+        // Then
+        Map<String, Long> appearances = movies.stream()
+                .flatMap(movie -> Arrays.stream(movie.getCast().split(", ")))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        List<Long> counts = appearances.values().stream()
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+
+        assertThat(counts.get(0))
+                .isGreaterThan(20 * counts.get(counts.size() / 2));
+        assertThat(movies)
+                .allSatisfy(movie -> {
+                    assertThat(movie.getName()).isNotBlank();
+                    assertThat(movie.getYear()).isBetween(1920, 2021);
+                    assertThat(movie.getReleaseDate().getYear()).isEqualTo(movie.getYear());
+                });
+        assertThat(movies.stream().map(MovieDTO::getYear).filter(year -> year >= 2000).count())
+                .isGreaterThan(movies.size() / 2);
+    }
+
+    private static byte[] bytes(SyntheticCatalog catalog, SyntheticCatalog.Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        catalog.write(out, format);
+
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,55 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Serves a {@link SyntheticCatalog} as the response body, streamed from the file it is generated into once per JVM.
+ * Applied to stubs that name it, with the catalog as transformer parameters:
+ * <pre>
+ * .willReturn(aResponse()
+ *         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+ *         .withTransformers(SyntheticCatalogTransformer.NAME)
+ *         .withTransformerParameters(catalog.toParameters(SyntheticCatalog.Format.NDJSON)))
+ * </pre>
+ * WireMock keeps a copy of every served body in its request journal, so servers for large catalogs should be started
+ * with {@code disableRequestJournal()}.
+ */
+public class SyntheticCatalogTransformer extends ResponseTransformer {
+    public static final String NAME = "synthetic-catalog";
+
+    @Override
+    public Response transform(Request request, Response response, FileSource files, Parameters parameters) {
+        SyntheticCatalog.Format format = SyntheticCatalog.Format.valueOf(parameters.getString("format"));
+        Path file = SyntheticCatalog.from(parameters).file(format);
+
+        return Response.Builder.like(response)
+                .but()
+                .body(() -> {
+                    try {
+                        return Files.newInputStream(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+}
@@ -0,0 +1,173 @@
+package com.gianvittorio.javawiremock.support;
+
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.service.StreamingMoviesRestClient;
+import com.gianvittorio.javawiremock.service.impl.MoviesRestClientImpl;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.http.LoggedResponse;
+import com.github.tomakehurst.wiremock.http.Timing;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import org.junit.jupiter.api.extension.*;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.LongSummaryStatistics;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Starts one WireMock server per test class on a dynamic port, so classes can run concurrently under
+ * {@code junit.jupiter.execution.parallel}. Stubs and requests are reset before each test. Test methods, constructors
+ * and lifecycle methods can declare a {@link WireMockServer} or a {@link MoviesRestClient} pointed at it.
+ * <p>
+ * With {@code -Dwiremock.report=true} each class prints its run time and how long WireMock spent serving its requests.
+ */
+public class WireMockExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    static final String REPORT_PROPERTY = "wiremock.report";
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(WireMockExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        server(context);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        server(context).resetAll();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        runningServer(context).collectTimings();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+
+        return type == WireMockServer.class
+                || type == MoviesRestClient.class
+                || type == StreamingMoviesRestClient.class
+                || type == MoviesRestClientImpl.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        WireMockServer server = server(extensionContext);
+        if (parameterContext.getParameter().getType() == WireMockServer.class) {
+            return server;
+        }
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl(server.baseUrl() + "/")
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        return new MoviesRestClientImpl(webClient);
+    }
+
+    /**
+     * The server lives in the store of the class context, which stops it once the class has run.
+     */
+    private static WireMockServer server(ExtensionContext context) {
+        return runningServer(context).server;
+    }
+
+    private static RunningServer runningServer(ExtensionContext context) {
+        ExtensionContext classContext = classContext(context);
+
+        return classContext.getStore(NAMESPACE)
+                .getOrComputeIfAbsent(classContext.getRequiredTestClass(), testClass -> new RunningServer(testClass, start(testClass)), RunningServer.class);
+    }
+
+    private static ExtensionContext classContext(ExtensionContext context) {
+        ExtensionContext current = context;
+        while (current.getTestMethod().isPresent()) {
+            current = current.getParent().orElseThrow(IllegalStateException::new);
+        }
+
+        return current;
+    }
+
+    private static WireMockServer start(Class<?> testClass) {
+        MoviesWireMockTest settings = AnnotationSupport.findAnnotation(testClass, MoviesWireMockTest.class)
+                .orElseThrow(() -> new ExtensionConfigurationException(testClass + " is not annotated with @MoviesWireMockTest"));
+
+        WireMockConfiguration configuration = wireMockConfig()
+                .dynamicPort()
+                .notifier(new ConsoleNotifier(settings.verbose()))
+                .extensions(new MovieEchoTransformer());
+        if (settings.templating()) {
+            configuration.extensions(MovieFixtures.templating());
+        }
+        if (settings.extensions().length > 0) {
+            configuration.extensions(settings.extensions());
+        }
+
+        WireMockServer server = new WireMockServer(configuration);
+        server.start();
+
+        return server;
+    }
+
+    private static class RunningServer implements ExtensionContext.Store.CloseableResource {
+        private final Class<?> testClass;
+
+        private final WireMockServer server;
+
+        private final long startedAt = System.nanoTime();
+
+        private final LongSummaryStatistics processTimes = new LongSummaryStatistics();
+
+        private final LongSummaryStatistics sendTimes = new LongSummaryStatistics();
+
+        private long bodyBytes;
+
+        RunningServer(Class<?> testClass, WireMockServer server) {
+            this.testClass = testClass;
+            this.server = server;
+        }
+
+        /**
+         * Serve events are dropped by the reset before the next test, so they are summed up after each one.
+         */
+        void collectTimings() {
+            for (ServeEvent event : server.getAllServeEvents()) {
+                Timing timing = event.getTiming();
+                if (timing != null && timing.getProcessTime() != null && timing.getResponseSendTime() != null) {
+                    processTimes.accept(timing.getProcessTime());
+                    sendTimes.accept(timing.getResponseSendTime());
+                }
+
+                LoggedResponse response = event.getResponse();
+                if (response != null && response.getBody() != null) {
+                    bodyBytes += response.getBody().length;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            server.stop();
+
+            if (Boolean.getBoolean(REPORT_PROPERTY)) {
+                System.out.printf("%s: %d ms, %d requests, %d body bytes, WireMock process avg %.2f ms max %d ms, send avg %.2f ms max %d ms%n",
+                        testClass.getSimpleName(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                        processTimes.getCount(),
+                        bodyBytes,
+                        processTimes.getAverage(),
+                        processTimes.getCount() == 0 ? 0 : processTimes.getMax(),
+                        sendTimes.getAverage(),
+                        sendTimes.getCount() == 0 ? 0 : sendTimes.getMax());
+            }
+        }
+    }
+}
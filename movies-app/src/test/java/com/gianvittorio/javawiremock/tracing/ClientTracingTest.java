@@ -0,0 +1,247 @@
+package com.gianvittorio.javawiremock.tracing;
+
+import com.gianvittorio.javawiremock.config.MoviesClientFactory;
+import com.gianvittorio.javawiremock.config.MoviesClientOptions;
+import com.gianvittorio.javawiremock.constants.MoviesConstants;
+import com.gianvittorio.javawiremock.exception.MovieErrorResponse;
+import com.gianvittorio.javawiremock.service.MoviesRestClient;
+import com.gianvittorio.javawiremock.support.MovieFixtures;
+import com.gianvittorio.javawiremock.support.MovieStubs;
+import com.gianvittorio.javawiremock.support.MoviesWireMockTest;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static com.gianvittorio.javawiremock.support.MovieFixtures.json;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MoviesWireMockTest(verbose = false)
+public class ClientTracingTest {
+    static final String TRACEPARENT = "traceparent";
+
+    WireMockServer wireMockServer;
+
+    InMemorySpanExporter spanExporter;
+
+    @BeforeEach
+    public void setUp(WireMockServer wireMockServer) {
+        this.wireMockServer = wireMockServer;
+        this.spanExporter = InMemorySpanExporter.create();
+    }
+
+    @Test
+    @DisplayName("Must propagate the client span of an operation in the traceparent header.")
+    public void propagateTraceContextTest() {
+        // Given
+        int year = 2012;
+
+        wireMockServer.stubFor(
+                get(urlPathEqualTo(MoviesConstants.GET_MOVIE_BY_YEAR_V1))
+                        .willReturn(json("movie-ByYear.json"))
+        );
+
+        OpenTelemetry openTelemetry = openTelemetry(Sampler.alwaysOn());
+        MoviesRestClient moviesRestClient = moviesRestClient(openTelemetry);
+
+        // When
+        Span parent = openTelemetry.getTracer("test").spanBuilder("user request").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            moviesRestClient.retrieveMoviesByYear(year);
+        } finally {
+            parent.end();
+        }
+
+        // Then
+        SpanData span = clientSpan("retrieveMoviesByYear");
+
+        assertThat(span.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(span.getTraceId()).isEqualTo(parent.getSpanContext().getTraceId());
+        assertThat(span.getParentSpanId()).isEqualTo(parent.getSpanContext().getSpanId());
+        assertThat(span.getAttributes().get(ClientTracing.OPERATION)).isEqualTo("retrieveMoviesByYear");
+        assertThat(span.getAttributes().get(ClientTracing.YEAR)).isEqualTo((long) year);
+        assertThat(span.getAttributes().get(ClientTracing.STATUS_CODE)).isEqualTo((long) HttpStatus.OK.value());
+        assertThat(span.getAttributes().get(ClientTracing.RESPONSE_CONTENT_LENGTH))
+                .isEqualTo((long) MovieFixtures.body("movie-ByYear.json").length);
+
+        wireMockServer.verify(
+                getRequestedFor(urlPathEqualTo(MoviesConstants.GET_MOVIE_BY_YEAR_V1))
+                        .withHeader(TRACEPARENT, equalTo("00-" + span.getTraceId() + "-" + span.getSpanId() + "-01"))
+        );
+    }
+
+    @Test
+    @DisplayName("Must record the size of a chunked response from the bytes read.")
+    public void chunkedResponseSizeTest() {
+        // Given
+        byte[] body = MovieFixtures.body("movie.json");
+        wireMockServer.stubFor(
+                get(urlPathEqualTo("/movieservice/v1/movie/1"))
+                        .willReturn(aResponse()
+                                .withStatus(HttpStatus.OK.value())
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(body)
+                                .withChunkedDribbleDelay(4, 100))
+        );
+
+        MoviesRestClient moviesRestClient = moviesRestClient(openTelemetry(Sampler.alwaysOn()));
+
+        // When
+        moviesRestClient.retrieveMovieById(1L);
+
+        // Then
+        SpanData span = clientSpan("retrieveMovieById");
+
+        assertThat(span.getAttributes().get(ClientTracing.RESPONSE_CONTENT_LENGTH))
+                .isEqualTo((long) body.length);
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/movieservice/v1/movie/1")));
+    }
+
+    @Test
+    @DisplayName("Must propagate the baggage of the calling thread along with the client span.")
+    public void propagateBaggageTest() {
+        // Given
+        MovieStubs.MOVIE_BY_ID.registerOn(wireMockServer);
+
+        OpenTelemetry openTelemetry = openTelemetry(Sampler.alwaysOn(), TextMapPropagator.composite(
+                W3CTraceContextPropagator.getInstance(), W3CBaggagePropagator.getInstance()));
+        MoviesRestClient moviesRestClient = moviesRestClient(openTelemetry);
+
+        // When
+        try (Scope ignored = Baggage.builder().put("tenant", "acme").build().makeCurrent()) {
+            moviesRestClient.retrieveMovieById(1L);
+        }
+
+        // Then
+        SpanData span = clientSpan("retrieveMovieById");
+
+        wireMockServer.verify(
+                getRequestedFor(urlPathEqualTo("/movieservice/v1/movie/1"))
+                        .withHeader(TRACEPARENT, equalTo("00-" + span.getTraceId() + "-" + span.getSpanId() + "-01"))
+                        .withHeader("baggage", equalTo("tenant=acme"))
+        );
+    }
+
+    @Test
+    @DisplayName("Must mark the span of a failed operation as an error with the response status.")
+    public void failedOperationSpanTest() {
+        // Given
+        MovieStubs.MOVIE_NOT_FOUND.registerOn(wireMockServer);
+
+        MoviesRestClient moviesRestClient = moviesRestClient(openTelemetry(Sampler.alwaysOn()));
+
+        // When
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100L));
+
+        // Then
+        SpanData span = clientSpan("retrieveMovieById");
+
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getAttributes().get(ClientTracing.MOVIE_ID)).isEqualTo(100L);
+        assertThat(span.getAttributes().get(ClientTracing.STATUS_CODE)).isEqualTo((long) HttpStatus.NOT_FOUND.value());
+
+        wireMockServer.verify(
+                getRequestedFor(urlPathEqualTo("/movieservice/v1/movie/100"))
+                        .withHeader(TRACEPARENT, equalTo("00-" + span.getTraceId() + "-" + span.getSpanId() + "-01"))
+        );
+    }
+
+    @Test
+    @DisplayName("Must still propagate an unsampled trace without recording spans.")
+    public void unsampledTraceTest() {
+        // Given
+        MovieStubs.MOVIE_BY_ID.registerOn(wireMockServer);
+
+        MoviesRestClient moviesRestClient = moviesRestClient(openTelemetry(Sampler.alwaysOff()));
+
+        // When
+        moviesRestClient.retrieveMovieById(1L);
+
+        // Then
+        assertThat(spanExporter.getFinishedSpanItems()).isEmpty();
+
+        wireMockServer.verify(
+                getRequestedFor(urlPathEqualTo("/movieservice/v1/movie/1"))
+                        .withHeader(TRACEPARENT, matching("00-[0-9a-f]{32}-[0-9a-f]{16}-00"))
+        );
+    }
+
+    @Test
+    @DisplayName("Must not add trace headers when tracing is off.")
+    public void tracingOffTest() {
+        // Given
+        MovieStubs.MOVIE_BY_ID.registerOn(wireMockServer);
+
+        MoviesRestClient moviesRestClient = MoviesClientFactory.moviesRestClient(
+                MoviesClientOptions.builder()
+                        .baseUrl(wireMockServer.baseUrl() + "/")
+                        .build()
+        );
+
+        // When
+        moviesRestClient.retrieveMovieById(1L);
+
+        // Then
+        wireMockServer.verify(
+                getRequestedFor(urlPathEqualTo("/movieservice/v1/movie/1"))
+                        .withoutHeader(TRACEPARENT)
+        );
+    }
+
+    private OpenTelemetry openTelemetry(Sampler sampler) {
+        return openTelemetry(sampler, W3CTraceContextPropagator.getInstance());
+    }
+
+    private OpenTelemetry openTelemetry(Sampler sampler, TextMapPropagator propagator) {
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(
+                        SdkTracerProvider.builder()
+                                .setSampler(sampler)
+                                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                                .build()
+                )
+                .setPropagators(ContextPropagators.create(propagator))
+                .build();
+    }
+
+    private MoviesRestClient moviesRestClient(OpenTelemetry openTelemetry) {
+        return MoviesClientFactory.moviesRestClient(
+                MoviesClientOptions.builder()
+                        .baseUrl(wireMockServer.baseUrl() + "/")
+                        .tracing(new ClientTracing(openTelemetry))
+                        .build()
+        );
+    }
+
+    private SpanData clientSpan(String name) {
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " span in " + spans));
+    }
+}
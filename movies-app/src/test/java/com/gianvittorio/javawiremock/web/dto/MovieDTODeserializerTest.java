@@ -0,0 +1,179 @@
+package com.gianvittorio.javawiremock.web.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gianvittorio.javawiremock.config.JacksonAccelerator;
+import com.gianvittorio.javawiremock.config.MoviesObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MovieDTODeserializerTest {
+    private static final TypeReference<List<MovieDTO>> MOVIE_LIST = new TypeReference<List<MovieDTO>>() {
+    };
+
+    private final ObjectMapper handWritten = MoviesObjectMapper.shared();
+
+    private final ObjectMapper databind = MoviesObjectMapper.databind(JacksonAccelerator.NONE).build();
+
+    @Test
+    @DisplayName("Must decode random movies exactly like databind.")
+    public void matchesDatabindTest() throws IOException {
+        // Given
+        Random random = new Random(20210601L);
+
+        for (int i = 0; i < 2_000; i++) {
+            String json = randomMovies(random, 1 + random.nextInt(8));
+
+            // When
+            List<MovieDTO> expected = databind.readValue(json, MOVIE_LIST);
+            List<MovieDTO> actual = handWritten.readValue(json, MOVIE_LIST);
+
+            // Then
+            assertThat(actual)
+                    .as(json)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Must decode templated values sent as strings and date-times.")
+    public void coercedValuesTest() throws IOException {
+        // Given
+        String json = "{\"movie_id\":\"9\",\"year\":\"2019\",\"name\":\"Toy Story 4\",\"release_date\":\"2019-06-20T00:00:00Z\"}";
+
+        // When
+        MovieDTO movieDTO = handWritten.readValue(json, MovieDTO.class);
+
+        // Then
+        assertThat(movieDTO)
+                .isEqualTo(databind.readValue(json, MovieDTO.class))
+                .extracting(MovieDTO::getMovieId, MovieDTO::getYear, MovieDTO::getReleaseDate)
+                .containsExactly(9L, 2019, LocalDate.of(2019, 6, 20));
+    }
+
+    @Test
+    @DisplayName("Must reject the same malformed dates as databind.")
+    public void invalidDateTest() {
+        // Given
+        String json = "{\"movie_id\":1,\"release_date\":\"2019-13-45\"}";
+
+        // Then
+        assertThrows(IOException.class, () -> databind.readValue(json, MovieDTO.class));
+        assertThrows(IOException.class, () -> handWritten.readValue(json, MovieDTO.class));
+    }
+
+    @Test
+    @DisplayName("Accelerator modules loaded by name are registered on the mapper.")
+    public void acceleratorModulesTest() throws IOException {
+        // Given
+        String json = "{\"movie_id\":1,\"name\":\"Toy Story\",\"release_date\":\"1995-11-22\"}";
+        int baseline = MoviesObjectMapper.create(JacksonAccelerator.NONE).getRegisteredModuleIds().size();
+
+        for (JacksonAccelerator accelerator : List.of(JacksonAccelerator.AFTERBURNER, JacksonAccelerator.BLACKBIRD)) {
+            // When
+            ObjectMapper mapper = MoviesObjectMapper.create(accelerator);
+
+            // Then
+            assertThat(mapper.getRegisteredModuleIds()).hasSize(baseline + 1);
+            assertThat(mapper.readValue(json, MovieDTO.class)).isEqualTo(databind.readValue(json, MovieDTO.class));
+        }
+    }
+
+    /**
+     * Movies with fields in random order, random nulls and omissions, unknown fields, escapes and non-ASCII names.
+     */
+    private static String randomMovies(Random random, int count) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = MoviesObjectMapper.shared().getFactory().createGenerator(writer)) {
+            generator.writeStartArray();
+            for (int i = 0; i < count; i++) {
+                List<String> fields = new ArrayList<>(List.of("movie_id", "cast", "name", "release_date", "year", "rating", "tags"));
+                Collections.shuffle(fields, random);
+
+                generator.writeStartObject();
+                for (String field : fields) {
+                    int choice = random.nextInt(10);
+                    if (choice == 0) {
+                        continue;
+                    }
+
+                    generator.writeFieldName(field);
+                    if (choice == 1) {
+                        generator.writeNull();
+                        continue;
+                    }
+
+                    switch (field) {
+                        case "movie_id":
+                            long movieId = random.nextLong() >>> random.nextInt(64);
+                            if (choice == 2) {
+                                generator.writeString(String.valueOf(movieId));
+                            } else {
+                                generator.writeNumber(movieId);
+                            }
+                            break;
+                        case "year":
+                            generator.writeNumber(1900 + random.nextInt(200));
+                            break;
+                        case "release_date":
+                            generator.writeString(LocalDate.ofEpochDay(random.nextInt(100_000) - 20_000).toString());
+                            break;
+                        case "tags":
+                            generator.writeStartArray();
+                            generator.writeString(randomText(random));
+                            generator.writeStartObject();
+                            generator.writeNumberField("weight", random.nextDouble());
+                            generator.writeEndObject();
+                            generator.writeEndArray();
+                            break;
+                        case "rating":
+                            generator.writeNumber(random.nextDouble() * 10);
+                            break;
+                        default:
+                            generator.writeString(randomText(random));
+                            break;
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+
+        return writer.toString();
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(40);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    text.append((char) ('À' + random.nextInt(0x100)));
+                    break;
+                case 1:
+                    text.append("\"\\\n\t".charAt(random.nextInt(4)));
+                    break;
+                case 2:
+                    text.appendCodePoint(0x1F300 + random.nextInt(0x100));
+                    break;
+                default:
+                    text.append((char) ('a' + random.nextInt(26)));
+                    break;
+            }
+        }
+
+        return text.toString();
+    }
+}